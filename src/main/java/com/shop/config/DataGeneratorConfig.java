@@ -0,0 +1,41 @@
+package com.shop.config;
+
+import com.shop.dto.DataGeneratorDto;
+import com.shop.repository.DataGenerator;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 📘 DataGeneratorConfig 클래스 - 기동 시 대량 테스트 데이터를 생성하기 위한 설정 클래스
+ *
+ * `dataGenerator.enabled=true`일 때만 동작하며, 애플리케이션 기동 직후 DataGenerator로 데이터를 생성합니다.
+ * 생성할 양은 `dataGenerator.*` 프로퍼티로 지정합니다. (DataGeneratorDto의 필드명과 같음)
+ *
+ * 예: java -jar shop.jar --dataGenerator.enabled=true --dataGenerator.items=1000000 --dataGenerator.members=100000
+ */
+@Configuration // 📘 이 클래스가 스프링의 설정 클래스임을 나타냅니다.
+@ConditionalOnProperty(name = "dataGenerator.enabled", havingValue = "true") // 📘 프로퍼티가 true일 때만 등록
+public class DataGeneratorConfig {
+
+    /**
+     * 📘 생성할 데이터 양 (dataGenerator.* 프로퍼티를 DataGeneratorDto에 바인딩)
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "data-generator")
+    public DataGeneratorDto dataGeneratorDto() {
+        return new DataGeneratorDto();
+    }
+
+    /**
+     * 📘 기동 시 데이터를 생성하는 ApplicationRunner
+     *
+     * ApplicationReadyEvent보다 먼저 실행되므로, 상품명 색인(ItemNmIndex)은 생성된 데이터까지 포함하여 초기화됩니다.
+     */
+    @Bean
+    public ApplicationRunner dataGeneratorRunner(DataGenerator dataGenerator, DataGeneratorDto dataGeneratorDto) {
+        return args -> dataGenerator.generate(dataGeneratorDto);
+    }
+}
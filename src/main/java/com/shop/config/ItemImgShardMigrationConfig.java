@@ -0,0 +1,28 @@
+package com.shop.config;
+
+import com.shop.service.ItemImgShardMigration;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 📘 ItemImgShardMigrationConfig 클래스 - 기존 상품 이미지 파일을 하위 디렉터리로 옮기기 위한 설정 클래스
+ *
+ * `itemImgShardMigration.enabled=true`일 때만 동작하며, 애플리케이션 기동 직후 ItemImgShardMigration을 한 번 실행합니다.
+ * fileShardLevels를 바꾼 경우에도 다시 실행하면 새 경로로 옮깁니다.
+ *
+ * 예: java -jar shop.jar --itemImgShardMigration.enabled=true
+ */
+@Configuration // 📘 이 클래스가 스프링의 설정 클래스임을 나타냅니다.
+@ConditionalOnProperty(name = "itemImgShardMigration.enabled", havingValue = "true") // 📘 프로퍼티가 true일 때만 등록
+public class ItemImgShardMigrationConfig {
+
+    /**
+     * 📘 기동 시 상품 이미지 파일을 옮기는 ApplicationRunner
+     */
+    @Bean
+    public ApplicationRunner itemImgShardMigrationRunner(ItemImgShardMigration itemImgShardMigration) {
+        return args -> itemImgShardMigration.migrate();
+    }
+}
@@ -0,0 +1,97 @@
+package com.shop.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📘 SecondLevelCacheConfig 클래스 - Hibernate 2차 캐시 설정 클래스
+ *
+ * 상품(Item)과 상품 이미지(ItemImg)는 조회가 수정보다 훨씬 많으므로, 엔티티와 상품 이미지 조회 쿼리 결과를
+ * 애플리케이션 메모리(Caffeine JCache)에 캐시합니다. 캐시 영역별 최대 보관 수와 유지 시간은 프로퍼티로 지정합니다.
+ *
+ * 🛠️ **캐시 영역**
+ * - **item**: 상품 엔티티 (itemCacheSize)
+ * - **itemImg**: 상품 이미지 엔티티 (itemImgCacheSize)
+ * - **default-query-results-region**: 캐시 가능한 쿼리 결과 (itemQueryCacheSize)
+ * - **default-update-timestamps-region**: 테이블별 마지막 변경 시각 (쿼리 결과 무효화용, 제거/만료 없음)
+ *
+ * 영역별 적중/실패 횟수는 JMX(`javax.cache:type=CacheStatistics`)로 확인할 수 있습니다.
+ */
+@Configuration // 📘 이 클래스가 스프링의 설정 클래스임을 나타냅니다.
+public class SecondLevelCacheConfig {
+
+    public static final String ITEM_REGION = "item"; // 상품 엔티티 캐시 영역
+
+    public static final String ITEM_IMG_REGION = "itemImg"; // 상품 이미지 엔티티 캐시 영역
+
+    private static final AtomicInteger CACHE_MANAGER_SEQUENCE = new AtomicInteger(); // CacheManager 이름 구분용
+
+    @Value("${itemCacheSize}")
+    private long itemCacheSize;
+
+    @Value("${itemImgCacheSize}")
+    private long itemImgCacheSize;
+
+    @Value("${itemQueryCacheSize}")
+    private long itemQueryCacheSize;
+
+    @Value("${itemCacheTtl}")
+    private long itemCacheTtl;
+
+    /**
+     * 📘 2차 캐시용 JCache CacheManager
+     *
+     * 같은 JVM에 애플리케이션 컨텍스트가 여러 개 떠 있어도(예: 서로 다른 DB를 쓰는 테스트) 캐시가 섞이지 않도록
+     * 컨텍스트마다 이름이 다른 CacheManager를 만듭니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("shop-second-level-cache-" + CACHE_MANAGER_SEQUENCE.incrementAndGet()),
+                        getClass().getClassLoader());
+
+        cacheManager.createCache(ITEM_REGION, regionConfiguration(itemCacheSize, itemCacheTtl));
+        cacheManager.createCache(ITEM_IMG_REGION, regionConfiguration(itemImgCacheSize, itemCacheTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(itemQueryCacheSize, itemCacheTtl));
+
+        // 변경 시각 영역은 항목이 사라지면 오래된 쿼리 결과가 유효한 것으로 판단될 수 있으므로 제한을 두지 않음
+        CaffeineConfiguration<Object, Object> timestampsConfiguration = new CaffeineConfiguration<>();
+        timestampsConfiguration.setStoreByValue(false);
+        timestampsConfiguration.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestampsConfiguration);
+
+        return cacheManager;
+    }
+
+    /**
+     * 📘 Hibernate가 위에서 만든 CacheManager를 2차 캐시로 사용하도록 설정
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    // 최대 보관 수와 유지 시간을 지정한 캐시 영역 설정 (Hibernate 캐시 항목은 불변이므로 복사 없이 참조로 보관)
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maximumSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -1,9 +1,19 @@
 package com.shop.config;
 
+import com.shop.service.FileService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value; // @Value 어노테이션을 import하여 프로퍼티의 값을 불러오기 위해 사용
 import org.springframework.context.annotation.Configuration; // @Configuration 어노테이션을 import하여 스프링의 설정 클래스로 인식하게 함
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl; // 정적 리소스 응답의 Cache-Control 헤더
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry; // 리소스 핸들러를 등록하는 데 필요한 클래스 import
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer; // WebMvcConfigurer 인터페이스를 import하여 MVC 설정을 커스터마이징할 수 있도록 함
+import org.springframework.web.servlet.resource.AbstractResourceResolver; // 정적 리소스 경로 변환
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebMvcConfig 클래스는 스프링 MVC의 리소스 핸들러(Resource Handler)를 설정하는 클래스입니다.
@@ -17,6 +27,9 @@ public class WebMvcConfig implements WebMvcConfigurer { // WebMvcConfigurer 인
     @Value("${uploadPath}") // @Value 어노테이션을 사용하여 프로퍼티 파일의 uploadPath 값을 주입
             String uploadPath; // 업로드된 파일이 저장될 경로를 저장하는 변수
 
+    @Autowired
+    FileService fileService; // 업로드 파일의 하위 디렉터리 경로 계산
+
     /**
      * addResourceHandlers 메서드는 리소스 핸들러를 추가하는 역할을 합니다.
      *
@@ -38,8 +51,46 @@ public class WebMvcConfig implements WebMvcConfigurer { // WebMvcConfigurer 인
          *      클라이언트는 /images/ 경로로 접근할 수 있지만, 실제 파일은 "C:/shoppingmall_project/workspace/shop/" 경로에 저장됩니다.
          *    - 즉, URL과 서버의 물리적 경로를 매핑하여 클라이언트가 직접 파일 경로를 알지 못해도
          *      외부에서 파일에 접근할 수 있도록 해줍니다.
+         *
+         * 3. setCacheControl(...)
+         *    - 업로드 이미지는 파일 이름이 내용 해시(FileService)이므로 같은 URL의 내용이 바뀌지 않습니다.
+         *    - 브라우저와 중간 캐시가 1년 동안 다시 요청하지 않고 사용하도록 합니다. (immutable)
+         *
+         * 4. resourceChain(false).addResolver(...)
+         *    - 상품 이미지는 하위 디렉터리(FileService.getFilePath())에 저장되며, 새 URL은 그 경로를 그대로 포함합니다.
+         *    - 하위 디렉터리로 옮기기 전의 URL(/images/item/파일명)로 요청해도 옮긴 파일을 찾을 수 있도록 합니다.
+         *      (이미 캐시된 페이지나 아직 옮기지 않은 데이터의 URL)
+         *    - 파일이 삭제/이동될 수 있으므로 조회 결과는 캐시하지 않습니다. (기본 PathResourceResolver가 마지막에 추가됨)
          */
         registry.addResourceHandler("/images/**") // 클라이언트가 URL로 접근할 경로 (/images/ 하위 경로의 모든 파일에 접근)
-                .addResourceLocations(uploadPath); // 실제 서버의 물리 경로를 매핑 (예: file:///C:/shoppingmall_project/workspace/shop/)
+                .addResourceLocations(uploadPath) // 실제 서버의 물리 경로를 매핑 (예: file:///C:/shoppingmall_project/workspace/shop/)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()) // 내용이 바뀌지 않는 URL이므로 오래 캐시
+                .resourceChain(false)
+                .addResolver(new ShardedItemImgResolver()); // 이전 URL을 하위 디렉터리 경로로 변환
+    }
+
+    /**
+     * 하위 디렉터리로 옮기기 전의 상품 이미지 경로(item/파일명)에 파일이 없으면 item/9f/64/파일명 경로에서 찾는 리졸버
+     */
+    private class ShardedItemImgResolver extends AbstractResourceResolver {
+
+        private static final String ITEM_PATH = "item/";
+
+        @Override
+        protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                                   List<? extends Resource> locations, ResourceResolverChain chain) {
+            Resource resource = chain.resolveResource(request, requestPath, locations);
+            if (resource == null && requestPath.startsWith(ITEM_PATH) && requestPath.indexOf('/', ITEM_PATH.length()) < 0) {
+                String fileName = requestPath.substring(ITEM_PATH.length());
+                resource = chain.resolveResource(request, ITEM_PATH + fileService.getFilePath(fileName), locations);
+            }
+            return resource;
+        }
+
+        @Override
+        protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                                ResourceResolverChain chain) {
+            return chain.resolveUrlPath(resourceUrlPath, locations);
+        }
     }
 }
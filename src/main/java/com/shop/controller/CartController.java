@@ -128,12 +128,10 @@ public class CartController {
             return new ResponseEntity<String>("주문할 상품을 고르세요", HttpStatus.FORBIDDEN);
         }
 
-        // 각 장바구니 항목에 대해 권한 검증
-        for (CartOrderDto cartOrder : cartOrderDtoList) {
-            // 현재 로그인한 사용자가 해당 장바구니 항목을 주문할 권한이 있는지 확인
-            if (!cartService.validateCartItem(cartOrder.getCartItemId(), principal.getName())) {
-                return new ResponseEntity<String>("주문권한이 없음", HttpStatus.FORBIDDEN);
-            }
+        // 주문할 장바구니 항목 전체에 대해 한 번의 쿼리로 권한 검증
+        List<Long> cartItemIds = cartOrderDtoList.stream().map(CartOrderDto::getCartItemId).toList();
+        if (!cartService.validateCartItems(cartItemIds, principal.getName())) {
+            return new ResponseEntity<String>("주문권한이 없음", HttpStatus.FORBIDDEN);
         }
 
         // 권한 검증 완료 후, 주문 생성 로직 호출
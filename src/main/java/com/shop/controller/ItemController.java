@@ -1,8 +1,8 @@
 package com.shop.controller;
 
+import com.shop.dto.AdminItemDto;
 import com.shop.dto.ItemFormDto; // **상품 등록/수정 시 사용하는 DTO** (Data Transfer Object)
 import com.shop.dto.ItemSearchDto;
-import com.shop.entity.Item;
 import com.shop.service.ItemService; // **상품 등록 서비스** (ItemService) 임포트
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid; // **유효성 검사를 위해 사용**하는 @Valid 어노테이션
@@ -10,16 +10,24 @@ import lombok.RequiredArgsConstructor; // **final 필드에 생성자를 자동
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl; // **Cache-Control 헤더 값 생성**
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller; // **Spring MVC의 컨트롤러**로 등록하는 어노테이션
 import org.springframework.ui.Model; // **뷰(View)로 데이터를 전달**하기 위해 사용되는 객체
 import org.springframework.validation.BindingResult; // **유효성 검사 결과를 담는 객체**
 import org.springframework.web.bind.annotation.GetMapping; // **GET 요청을 처리**하기 위한 어노테이션
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping; // **POST 요청을 처리**하기 위한 어노테이션
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.RequestParam; // **요청 파라미터를 매핑**하는 어노테이션
+import org.springframework.web.context.request.ServletWebRequest; // **조건부 요청(ETag/Last-Modified) 처리**
 import org.springframework.web.multipart.MultipartFile; // **파일 업로드**를 위해 사용하는 객체
 
-
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List; // **이미지 파일 리스트**를 다루기 위해 사용하는 자바의 List 인터페이스
 import java.util.Optional;
 
@@ -199,34 +207,77 @@ public class ItemController {
      *
      * @param itemSearchDto 검색 조건을 담은 DTO 객체
      * @param page 페이지 번호 (없을 경우 기본값 0)
+     * @param cursor 커서 기반 페이지 이동 시 이전 페이지의 마지막 위치 (빈 값이면 첫 페이지)
      * @param model 뷰에 데이터를 전달하는 객체
      * @return 상품 관리 페이지 템플릿 이름 ("item/itemMng")
      */
     @GetMapping(value = {"/admin/items", "/admin/items/{page}"})
     public String itemManage(ItemSearchDto itemSearchDto,
                              @PathVariable(value = "page", required = false) Integer page,
+                             @RequestParam(value = "cursor", required = false) String cursor,
                              Model model) {
+        // cursor 파라미터가 있으면 offset 대신 마지막으로 본 상품 ID 기준으로 조회
+        if (cursor != null) {
+            Slice<AdminItemDto> items = itemService.getAdminItemSlice(itemSearchDto, ItemCursor.decode(cursor), 3);
+
+            model.addAttribute("items", items); // 조회된 상품 목록
+            model.addAttribute("itemSearchDto", itemSearchDto); // 검색 조건
+            model.addAttribute("cursor", cursor); // 현재 커서
+            model.addAttribute("nextCursor", ItemCursor.next(items, AdminItemDto::getId)); // 다음 페이지 커서 (마지막 페이지면 null)
+
+            return "item/itemMng";
+        }
+
         // 1️⃣ 페이징 정보 생성: page가 null이면 0 페이지를 기본값으로 설정, 페이지 크기는 3
         Pageable pageable = PageRequest.of(page != null ? page : 0, 3);
 
         // 2️⃣ 상품 목록 조회: 검색 조건과 페이징 정보를 이용해 상품 목록 조회
-        Page<Item> items = itemService.getAdminItemPage(itemSearchDto, pageable);
+        Page<AdminItemDto> items = itemService.getAdminItemPage(itemSearchDto, pageable);
 
         // 3️⃣ 뷰에 데이터 전달
         model.addAttribute("items", items); // 조회된 상품 목록
         model.addAttribute("itemSearchDto", itemSearchDto); // 검색 조건
         model.addAttribute("maxPage", 5); // 페이지 네비게이션 최대 표시 페이지 수
+        model.addAttribute("nextCursor", ItemCursor.next(items, AdminItemDto::getId)); // Next는 커서 기반으로 이동 (뒤쪽 페이지도 조회 비용 일정)
 
         // 4️⃣ 뷰 템플릿 경로 반환
         return "item/itemMng"; // 상품 관리 페이지 템플릿
     }
 
 
+    /**
+     * 📘 **상품 상세 페이지 조회 메서드**
+     *
+     * 상품과 상품 이미지의 마지막 수정 시간으로 ETag/Last-Modified를 만들고, 브라우저가 보낸
+     * If-None-Match/If-Modified-Since와 같으면 상품 이미지 조회와 화면 렌더링 없이 304(Not Modified)로 응답합니다.
+     *
+     * 🛠️ **캐시 정책**
+     * - 화면 헤더(로그인 메뉴)와 CSRF 토큰이 사용자/세션마다 다르므로 ETag에 로그인 사용자와 세션을 함께 반영합니다.
+     * - 같은 이유로 공유 캐시(프록시)에는 저장하지 않도록 private, 매번 재검증하도록 no-cache로 응답합니다.
+     *
+     * @param itemId **URL 경로에서 전달된 상품 ID**
+     * @param webRequest **조건부 요청 헤더 확인 및 304 응답 처리용 요청 객체**
+     * @param principal **로그인 사용자 정보 (비로그인이면 null)**
+     * @return **item/itemDtl 뷰 (304 응답이면 null)**
+     */
     @GetMapping(value = "/item/{itemId}")
-    public String itemDtl(Model model, @PathVariable("itemId") Long itemId) {
-        // itemId를 기반으로 특정 상품의 상세 정보를 조회하여 모델에 담아 뷰로 전달하는 메서드
+    public String itemDtl(Model model, @PathVariable("itemId") Long itemId,
+                          ServletWebRequest webRequest, Principal principal) {
+
+        // 1️⃣ 마지막 수정 시간으로 변경 여부 확인 (상품이 없으면 기존과 같이 상세 조회에서 처리)
+        LocalDateTime lastModified = itemService.getItemDtlLastModified(itemId);
+        if (lastModified != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL,
+                    CacheControl.noCache().cachePrivate().getHeaderValue());
+
+            String etag = itemDtlEtag(itemId, lastModified, webRequest, principal);
+            long lastModifiedMillis = lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (webRequest.checkNotModified(etag, lastModifiedMillis)) {
+                return null; // 304 응답 (본문 없음)
+            }
+        }
 
-        // 서비스 계층에서 상품 상세 정보를 가져옴
+        // 2️⃣ 서비스 계층에서 상품 상세 정보를 가져옴
         ItemFormDto itemFormDto = itemService.getItemDtl(itemId);
 
         // 뷰에서 사용할 수 있도록 모델에 "item" 이름으로 데이터 추가
@@ -236,6 +287,13 @@ public class ItemController {
         return "item/itemDtl";
     }
 
+    // 상품 상세 페이지 ETag: 상품 ID, 마지막 수정 시간, 로그인 사용자, 세션 ID(CSRF 토큰 구분용)를 해시한 약한 ETag
+    private String itemDtlEtag(Long itemId, LocalDateTime lastModified, ServletWebRequest webRequest, Principal principal) {
+        String user = principal != null ? principal.getName() : "anonymous";
+        String source = itemId + ":" + lastModified + ":" + user + ":" + webRequest.getSessionId();
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
 
 
 
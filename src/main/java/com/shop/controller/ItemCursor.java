@@ -0,0 +1,48 @@
+package com.shop.controller;
+
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 이동에 사용하는 cursor 파라미터를 만들고 해석하는 클래스.
+ * - 화면에는 마지막으로 본 상품 ID를 그대로 노출하지 않고 Base64(URL-safe) 문자열로 전달합니다.
+ * - 번호 페이지(offset)의 Next 버튼도 다음 페이지 cursor로 이동하므로, 뒤쪽 페이지는 항상 커서 기반으로 조회됩니다.
+ */
+final class ItemCursor {
+
+    private ItemCursor() {
+    }
+
+    // 마지막으로 본 상품 ID를 cursor 문자열로 변환
+    static String encode(Long lastItemId) {
+        if (lastItemId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastItemId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 조회한 목록의 다음 페이지 cursor (다음 페이지가 없으면 null)
+    static <T> String next(Slice<T> items, Function<T, Long> idOf) {
+        if (!items.hasNext() || !items.hasContent()) {
+            return null;
+        }
+        return encode(idOf.apply(items.getContent().get(items.getNumberOfElements() - 1)));
+    }
+
+    // cursor 문자열을 마지막으로 본 상품 ID로 변환 (비어 있거나 잘못된 값이면 첫 페이지로 처리)
+    static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.valueOf(decoded);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -4,10 +4,13 @@ package com.shop.controller;
 import com.shop.dto.ItemSearchDto;
 import com.shop.dto.MainItemDto;
 import com.shop.service.ItemService;
+import com.shop.service.MainItemCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 
 import org.springframework.ui.Model;
@@ -23,29 +26,70 @@ public class MainController {
      */
     private final ItemService itemService;
 
+    /**
+     * 메인 페이지 상품 목록 캐시 (검색어, 페이지 번호별)
+     */
+    private final MainItemCache mainItemCache;
+
+    /**
+     * true이면 메인 페이지를 전체 개수(count 쿼리) 없이 조회하고 이전/다음 이동만 제공
+     */
+    @Value("${mainItemCountless:false}")
+    private boolean mainItemCountless;
+
     /**
      * 메인 페이지 요청 처리
      * - 상품 검색 및 페이징 처리
      *
      * @param itemSearchDto 검색 조건을 담은 DTO
      * @param page 현재 페이지 번호 (기본값: 0)
+     * @param cursor 커서 기반 페이지 이동 시 이전 페이지의 마지막 위치 (빈 값이면 첫 페이지)
      * @param model 뷰에 데이터를 전달하기 위한 Model 객체
      * @return 메인 페이지 뷰 이름("main")
      */
     @GetMapping(value = "/")
     public String getMainPage(ItemSearchDto itemSearchDto,
                               @RequestParam(value = "page", defaultValue = "0") Integer page,
+                              @RequestParam(value = "cursor", required = false) String cursor,
                               Model model){
+        // cursor 파라미터가 있으면 offset 대신 마지막으로 본 상품 ID 기준으로 조회 (깊은 페이지도 조회 비용 일정)
+        if (cursor != null) {
+            Slice<MainItemDto> items = itemService.getMainItemSlice(itemSearchDto, ItemCursor.decode(cursor), 6);
+
+            model.addAttribute("items", items);               // 상품 리스트
+            model.addAttribute("itemSearchDto", itemSearchDto); // 검색 조건
+            model.addAttribute("cursor", cursor);             // 현재 커서
+            model.addAttribute("nextCursor", ItemCursor.next(items, MainItemDto::getId)); // 다음 페이지 커서 (마지막 페이지면 null)
+
+            return "main";
+        }
+
         // 페이징 정보 생성 (현재 페이지, 페이지당 항목 수: 6개)
         Pageable pageable = PageRequest.of(page != null ? page : 0, 6);
 
+        // count 없는 모드: pageSize + 1개 조회로 다음 페이지 존재 여부만 판단
+        if (mainItemCountless) {
+            Slice<MainItemDto> items = mainItemCache.get(itemSearchDto.getSearchQuery(), pageable.getPageNumber(), true,
+                    () -> itemService.getMainItemSlice(itemSearchDto, pageable));
+
+            model.addAttribute("items", items);               // 상품 리스트
+            model.addAttribute("itemSearchDto", itemSearchDto); // 검색 조건
+            model.addAttribute("countless", true);            // 이전/다음 이동만 표시
+            model.addAttribute("nextCursor", ItemCursor.next(items, MainItemDto::getId)); // Next는 커서 기반으로 이동
+
+            return "main";
+        }
+
         // 검색 조건 및 페이징 정보를 기반으로 상품 리스트 가져오기
-        Page<MainItemDto> items = itemService.getMainItemPage(itemSearchDto, pageable);
+        // 앞쪽 페이지는 캐시된 결과 사용 (상품 등록/수정 시 무효화)
+        Page<MainItemDto> items = mainItemCache.get(itemSearchDto.getSearchQuery(), pageable.getPageNumber(), false,
+                () -> itemService.getMainItemPage(itemSearchDto, pageable));
 
         // 모델에 데이터 추가
         model.addAttribute("items", items);               // 상품 리스트
         model.addAttribute("itemSearchDto", itemSearchDto); // 검색 조건
         model.addAttribute("maxPage", 5);                 // 최대 페이지 수
+        model.addAttribute("nextCursor", ItemCursor.next(items, MainItemDto::getId)); // Next는 커서 기반으로 이동 (뒤쪽 페이지도 조회 비용 일정)
 
         // 메인 페이지 뷰 반환
         return "main";
@@ -0,0 +1,61 @@
+package com.shop.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.shop.constant.ItemSellStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO(Data Transfer Object) 클래스
+ * - 관리자 상품 관리 페이지 목록에 표시할 상품 정보를 전달하기 위한 객체
+ * - 상품 엔티티 전체(상세 설명 등) 대신 목록에 필요한 컬럼만 조회합니다.
+ */
+@Getter @Setter // Lombok을 사용해 getter와 setter 메서드를 자동 생성
+public class AdminItemDto {
+
+    /**
+     * 상품 ID
+     */
+    private Long id;
+
+    /**
+     * 상품 이름
+     */
+    private String itemNm;
+
+    /**
+     * 상품 판매 상태 (SELL, SOLD_OUT)
+     */
+    private ItemSellStatus itemSellStatus;
+
+    /**
+     * 등록자
+     */
+    private String createdBy;
+
+    /**
+     * 등록 시간
+     */
+    private LocalDateTime regTime;
+
+    /**
+     * Querydsl에서 사용하는 생성자
+     * - @QueryProjection을 사용해 Querydsl 쿼리 결과를 이 DTO로 매핑할 수 있도록 지원
+     *
+     * @param id 상품 ID
+     * @param itemNm 상품 이름
+     * @param itemSellStatus 상품 판매 상태
+     * @param createdBy 등록자
+     * @param regTime 등록 시간
+     */
+    @QueryProjection
+    public AdminItemDto(Long id, String itemNm, ItemSellStatus itemSellStatus, String createdBy, LocalDateTime regTime) {
+        this.id = id;                         // 상품 ID 초기화
+        this.itemNm = itemNm;                 // 상품 이름 초기화
+        this.itemSellStatus = itemSellStatus; // 상품 판매 상태 초기화
+        this.createdBy = createdBy;           // 등록자 초기화
+        this.regTime = regTime;               // 등록 시간 초기화
+    }
+}
@@ -0,0 +1,35 @@
+package com.shop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 대량 테스트 데이터 생성(DataGenerator) 시 생성할 데이터 양과 분포를 담는 DTO
+ */
+@Getter @Setter
+public class DataGeneratorDto {
+
+    private int items = 10_000; // 생성할 상품 수
+
+    private int imagesPerItem = 3; // 상품당 이미지 수 (첫 번째가 대표 이미지)
+
+    private int members = 1_000; // 생성할 회원 수
+
+    private int ordersPerMember = 5; // 일반 회원의 평균 주문 수 (0 ~ 2배 사이에서 무작위)
+
+    private double heavyMemberRatio = 0.01; // 주문 내역이 긴 회원의 비율
+
+    private int heavyOrdersPerMember = 500; // 주문 내역이 긴 회원의 주문 수
+
+    private int maxItemsPerOrder = 5; // 주문당 최대 상품 수 (1 ~ 최대값 사이에서 무작위)
+
+    private int maxCartItemsPerMember = 5; // 회원당 최대 장바구니 상품 수 (0 ~ 최대값 사이에서 무작위)
+
+    private double zipfExponent = 1.0; // 상품 인기도 Zipf 분포 지수 (클수록 소수 상품에 주문이 몰림)
+
+    private double cancelRatio = 0.1; // 취소된 주문 비율
+
+    private int batchSize = 1_000; // JDBC 배치 크기 (배치마다 커밋)
+
+    private long randomSeed = 42L; // 난수 시드 (같은 값이면 같은 데이터 생성)
+}
@@ -6,7 +6,6 @@ import jakarta.validation.constraints.NotBlank; // 필수 입력값을 검증하
 import jakarta.validation.constraints.NotNull; // 필수 입력값을 검증하기 위한 @NotNull 어노테이션을 임포트합니다.
 import lombok.Getter; // Lombok의 @Getter 어노테이션으로 모든 필드의 getter 메서드를 자동 생성합니다.
 import lombok.Setter; // Lombok의 @Setter 어노테이션으로 모든 필드의 setter 메서드를 자동 생성합니다.
-import org.modelmapper.ModelMapper; // ModelMapper를 임포트하여 객체 변환에 사용합니다.
 
 import java.util.ArrayList; // ArrayList를 임포트하여 리스트를 생성합니다.
 import java.util.List; // List 인터페이스를 임포트합니다.
@@ -35,15 +34,37 @@ public class ItemFormDto {
 
     private List<Long> itemImgIds = new ArrayList<>();
 
-    private static ModelMapper modelMapper = new ModelMapper(); // 정적 ModelMapper 인스턴스를 생성하여 재사용합니다.
-
     // ItemFormDto 객체의 정보를 바탕으로 Item 엔티티를 생성하는 메서드
+    // 리플렉션 기반 ModelMapper 대신 필드를 직접 복사하여 요청마다 타입 매핑을 해석하는 비용을 없앱니다.
     public Item createItem(){
-        return modelMapper.map(this, Item.class); // 현재 객체(this)의 정보를 Item 클래스로 매핑하여 새로운 Item 객체를 생성합니다.
+        Item item = new Item();
+        item.setId(id); // 상품 ID (등록 시에는 null)
+        item.setItemNm(itemNm); // 상품명
+        if (price != null) {
+            item.setPrice(price); // 상품 가격
+        }
+        item.setItemDetail(itemDetail); // 상품 상세 설명
+        if (stockNumber != null) {
+            item.setStockNumber(stockNumber); // 재고 수량
+        }
+        item.setItemSellStatus(itemSellStatus); // 상품 판매 상태
+        return item;
     }
 
     // Item 엔티티를 ItemFormDto로 변환하는 메서드
     public static ItemFormDto of(Item item){
-        return modelMapper.map(item, ItemFormDto.class); // Item 엔티티의 정보를 ItemFormDto로 변환합니다.
+        return of(item, item.getItemDetail()); // 상세 설명은 지연 로딩 필드이므로 이때 조회됨
+    }
+
+    // Item 엔티티와 별도로 조회한 상품 상세 설명으로 ItemFormDto를 만드는 메서드 (지연 로딩 쿼리 없음)
+    public static ItemFormDto of(Item item, String itemDetail){
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setId(item.getId()); // 상품 ID
+        itemFormDto.setItemNm(item.getItemNm()); // 상품명
+        itemFormDto.setPrice(item.getPrice()); // 상품 가격
+        itemFormDto.setItemDetail(itemDetail); // 상품 상세 설명
+        itemFormDto.setStockNumber(item.getStockNumber()); // 재고 수량
+        itemFormDto.setItemSellStatus(item.getItemSellStatus()); // 상품 판매 상태
+        return itemFormDto;
     }
 }
\ No newline at end of file
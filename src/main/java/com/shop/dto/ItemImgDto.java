@@ -3,7 +3,6 @@ package com.shop.dto;
 import com.shop.entity.ItemImg; // ItemImg 엔티티를 불러옵니다.
 import lombok.Getter; // Lombok의 @Getter 어노테이션으로 모든 필드의 getter 메서드를 자동 생성합니다.
 import lombok.Setter; // Lombok의 @Setter 어노테이션으로 모든 필드의 setter 메서드를 자동 생성합니다.
-import org.modelmapper.ModelMapper; // ModelMapper를 임포트하여 객체 변환에 사용합니다.
 
 @Getter @Setter // Lombok의 @Getter, @Setter로 getter, setter 메서드를 자동 생성합니다.
 public class ItemImgDto {
@@ -18,11 +17,15 @@ public class ItemImgDto {
 
     private String repImgYn; // 대표 이미지 여부 (Y: 대표 이미지, N: 일반 이미지)
 
-    private static ModelMapper modelMapper = new ModelMapper(); // 정적 ModelMapper 인스턴스를 생성하여 재사용합니다.
-    // 멤버변수로 ModelMapper 객체를 넣음
-
     // ItemImg 엔티티를 ItemImgDto로 변환하는 메서드
+    // 리플렉션 기반 ModelMapper 대신 필드를 직접 복사합니다. (상품 상세 조회마다 이미지 수만큼 호출됨)
     public static ItemImgDto of(ItemImg itemImg){// static 메서드로 선언해 ItemImgDto객체를 만들지 않아도 불러낼 수 있음
-        return modelMapper.map(itemImg, ItemImgDto.class); // ModelMapper를 사용하여 ItemImg 엔티티를 ItemImgDto로 변환합니다.
+        ItemImgDto itemImgDto = new ItemImgDto();
+        itemImgDto.setId(itemImg.getId()); // 이미지 ID
+        itemImgDto.setImgName(itemImg.getImgName()); // 저장된 이미지 파일명
+        itemImgDto.setOriImgName(itemImg.getOriImgName()); // 원본 이미지 파일명
+        itemImgDto.setImgUrl(itemImg.getImgUrl()); // 이미지 조회 경로
+        itemImgDto.setRepImgYn(itemImg.getRepImgYn()); // 대표 이미지 여부
+        return itemImgDto;
     }
 }
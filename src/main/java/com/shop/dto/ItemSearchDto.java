@@ -29,4 +29,9 @@ public class ItemSearchDto {
 
     private String searchQuery = "";
     // 검색어 (itemNm: 상품 이름 / createdBy: 등록자 아이디)
+
+    // 검색어는 앞뒤 공백을 제거하고 null이면 빈 문자열로 저장 (같은 검색어는 같은 조회 조건, 같은 캐시 키가 되도록)
+    public void setSearchQuery(String searchQuery) {
+        this.searchQuery = searchQuery == null ? "" : searchQuery.trim();
+    }
 }
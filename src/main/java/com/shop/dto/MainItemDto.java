@@ -22,9 +22,9 @@ public class MainItemDto {
     private String itemNm;
 
     /**
-     * 상품 상세 설명
+     * 상품 설명 요약 (상세 설명의 앞부분)
      */
-    private String itemDetail;
+    private String itemSummary;
 
     /**
      * 상품 이미지 URL
@@ -42,15 +42,15 @@ public class MainItemDto {
      *
      * @param id 상품 ID
      * @param itemNm 상품 이름
-     * @param itemDetail 상품 상세 설명
+     * @param itemSummary 상품 설명 요약
      * @param imgUrl 상품 이미지 URL
      * @param price 상품 가격
      */
     @QueryProjection
-    public MainItemDto(Long id, String itemNm, String itemDetail, String imgUrl, Integer price) {
+    public MainItemDto(Long id, String itemNm, String itemSummary, String imgUrl, Integer price) {
         this.id = id;               // 상품 ID 초기화
         this.itemNm = itemNm;       // 상품 이름 초기화
-        this.itemDetail = itemDetail; // 상품 상세 설명 초기화
+        this.itemSummary = itemSummary; // 상품 설명 요약 초기화
         this.imgUrl = imgUrl;       // 상품 이미지 URL 초기화
         this.price = price;         // 상품 가격 초기화
     }
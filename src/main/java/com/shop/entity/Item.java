@@ -1,12 +1,17 @@
 package com.shop.entity;
 
+import com.shop.config.SecondLevelCacheConfig;
 import com.shop.constant.ItemSellStatus;
 import com.shop.dto.ItemFormDto;
-import com.shop.exception.OutOfStockException;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.annotations.QueryCacheLayout;
 
 import java.time.LocalDateTime;
 
@@ -22,8 +27,13 @@ import java.time.LocalDateTime;
 @Getter // Lombok 어노테이션: getter 메서드 자동 생성
 @Setter // Lombok 어노테이션: setter 메서드 자동 생성
 @ToString // Lombok 어노테이션: toString 메서드 자동 생성
+@Cacheable // 2차 캐시 대상 엔티티
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ITEM_REGION) // 수정 시 캐시도 함께 갱신
+@QueryCacheLayout(layout = CacheLayout.SHALLOW) // 쿼리 캐시에는 상품 ID만 저장하고 상품 데이터는 엔티티 캐시에서 읽음 (재고 변경 시 해당 상품만 제거하면 됨)
 public class Item extends BaseEntity{
 
+    public static final int ITEM_SUMMARY_LENGTH = 100; // 상품 설명 요약 최대 길이
+
     @Id // 엔티티의 기본 키를 나타냄
     @Column(name = "item_id") // 데이터베이스 테이블의 컬럼 이름 지정
     @GeneratedValue(strategy = GenerationType.AUTO) // 기본 키 값을 자동으로 생성하는 방식 지정
@@ -39,12 +49,24 @@ public class Item extends BaseEntity{
     private int stockNumber; // 상품 재고 수량
 
     @Lob // 큰 데이터(텍스트) 타입을 저장하기 위한 설정
+    @Basic(fetch = FetchType.LAZY) // 목록/주문/장바구니 조회 시 큰 텍스트를 함께 읽지 않도록 실제 사용할 때 조회 (바이트코드 향상 필요)
     @Column(nullable = false) // 필수 입력 필드로 지정
+    @ToString.Exclude // toString 호출로 지연 로딩이 일어나지 않도록 제외
     private String itemDetail; // 상품 상세 설명
 
+    @Column(length = ITEM_SUMMARY_LENGTH)
+    @Setter(AccessLevel.NONE) // 상세 설명을 변경할 때(setItemDetail)만 함께 갱신
+    private String itemSummary; // 상품 설명 요약 (메인 페이지 목록에서 상세 설명 대신 사용, 상세 설명의 앞부분)
+
     @Enumerated(EnumType.STRING) // 열거형(Enum)을 문자열로 저장
     private ItemSellStatus itemSellStatus; // 상품 판매 상태 (SELL, SOLD_OUT)
 
+    private String repImgUrl; // 대표 이미지 URL (목록/장바구니/주문 내역 조회 시 item_img 조인 없이 사용)
+
+    private String repSmallImgUrl; // 대표 이미지 작은 썸네일 URL (장바구니/주문 내역)
+
+    private String repMediumImgUrl; // 대표 이미지 중간 썸네일 URL (메인 페이지 목록)
+
 //    private LocalDateTime regTime; // 등록 시간
 //
 //    private LocalDateTime updateTime; // 수정 시간
@@ -60,32 +82,53 @@ public class Item extends BaseEntity{
         this.itemNm = itemFormDto.getItemNm(); // 상품 이름 업데이트
         this.price = itemFormDto.getPrice(); // 상품 가격 업데이트
         this.stockNumber = itemFormDto.getStockNumber(); // 재고 수량 업데이트
-        this.itemDetail = itemFormDto.getItemDetail(); // 상품 상세 설명 업데이트
+        setItemDetail(itemFormDto.getItemDetail()); // 상품 상세 설명, 설명 요약 업데이트
         this.itemSellStatus = itemFormDto.getItemSellStatus(); // 상품 판매 상태 업데이트 (판매 중/품절)
     }
 
-    public void removeStock(int stockNumber) {
+    public void setItemDetail(String itemDetail) {
+        // 📝 [메서드 설명]
+        // - 상품 상세 설명을 변경하는 메서드
+        // - 메인 페이지 목록용 설명 요약(itemSummary)도 함께 갱신
+
+        this.itemDetail = itemDetail; // 상품 상세 설명 업데이트
+        this.itemSummary = createItemSummary(itemDetail); // 설명 요약 업데이트
+    }
+
+    public static String createItemSummary(String itemDetail) {
         // 📝 [메서드 설명]
-        // - 상품 재고를 감소시키는 메서드
-        // - 요청된 수량만큼 재고를 줄이고, 남은 재고가 0보다 작아질 경우 예외를 발생시킴
+        // - 상품 상세 설명으로 한 줄 요약을 만드는 메서드 (줄바꿈/연속 공백을 공백 하나로, 최대 ITEM_SUMMARY_LENGTH자)
+        // - 상품 등록/수정 시와 테스트 데이터 생성(DataGenerator) 시 사용
 
-        int restStock = this.stockNumber - stockNumber; // 남은 재고 계산
+        if (itemDetail == null) {
+            return null;
+        }
 
-        // ❗ [예외 처리]
-        // - 재고 부족 시 OutOfStockException 발생
-        if (restStock < 0) {
-            throw new OutOfStockException("상품의 재고가 없습니다. (현재 재고 수량: " + this.stockNumber + ")");
+        String summary = itemDetail.strip().replaceAll("\\s+", " ");
+        if (summary.length() <= ITEM_SUMMARY_LENGTH) {
+            return summary;
         }
 
-        this.stockNumber = restStock; // 재고 수량 업데이트
+        // 서로게이트 쌍(이모지 등) 중간에서 자르지 않도록 처리
+        int end = Character.isHighSurrogate(summary.charAt(ITEM_SUMMARY_LENGTH - 1)) ? ITEM_SUMMARY_LENGTH - 1 : ITEM_SUMMARY_LENGTH;
+        return summary.substring(0, end);
+    }
+
+    public void updateRepImgUrl(String repImgUrl) {
+        // 📝 [메서드 설명]
+        // - 썸네일 없이 대표 이미지 URL만 변경하는 메서드 (목록에서도 원본 이미지 사용)
+
+        updateRepImgUrl(repImgUrl, repImgUrl, repImgUrl);
     }
 
-    public void addStock(int stockNumber) {
+    public void updateRepImgUrl(String repImgUrl, String repSmallImgUrl, String repMediumImgUrl) {
         // 📝 [메서드 설명]
-        // - 상품 재고를 증가시키는 메서드
-        // - 주문 취소 시 해당 상품의 재고를 복구하는 용도로 사용됨
+        // - 대표 이미지 URL과 썸네일 URL을 변경하는 메서드
+        // - 대표 이미지(repImgYn = "Y")가 저장/수정될 때 ItemImgService에서 호출됨
 
-        this.stockNumber += stockNumber; // 재고 수량을 요청된 수량만큼 증가
+        this.repImgUrl = repImgUrl; // 대표 이미지 URL 업데이트
+        this.repSmallImgUrl = repSmallImgUrl; // 작은 썸네일 URL 업데이트
+        this.repMediumImgUrl = repMediumImgUrl; // 중간 썸네일 URL 업데이트
     }
 
 }
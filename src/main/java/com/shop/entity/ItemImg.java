@@ -1,12 +1,18 @@
 package com.shop.entity;
 
+import com.shop.config.SecondLevelCacheConfig; // 2차 캐시 영역 이름
 import jakarta.persistence.*; // JPA 관련 어노테이션을 사용하기 위해 임포트
 import lombok.Getter; // Lombok의 Getter 어노테이션으로 모든 필드의 getter 메서드 자동 생성
 import lombok.Setter; // Lombok의 Setter 어노테이션으로 모든 필드의 setter 메서드 자동 생성
+import org.hibernate.annotations.Cache; // Hibernate 2차 캐시 설정
+import org.hibernate.annotations.CacheConcurrencyStrategy; // 2차 캐시 동시성 전략
 
 @Entity // JPA의 Entity 어노테이션으로 해당 클래스가 엔티티임을 명시
-@Table(name = "item_img") // 데이터베이스에 매핑될 테이블 이름을 "item_img"로 지정
+@Table(name = "item_img", // 데이터베이스에 매핑될 테이블 이름을 "item_img"로 지정
+        indexes = @Index(name = "idx_item_img_img_name", columnList = "img_name")) // 같은 파일을 사용하는 이미지 수 조회용
 @Getter @Setter // Lombok을 사용하여 getter, setter 메서드 자동 생성
+@Cacheable // 2차 캐시 대상 엔티티
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ITEM_IMG_REGION) // 수정 시 캐시도 함께 갱신
 public class ItemImg extends BaseEntity{ // BaseEntity를 상속하여 생성, 수정 시간 관련 필드를 상속받음
 
     @Id // 기본 키(PK)로 지정
@@ -14,12 +20,16 @@ public class ItemImg extends BaseEntity{ // BaseEntity를 상속하여 생성, 
     @GeneratedValue(strategy = GenerationType.AUTO) // 기본 키의 생성 전략을 자동 생성(AUTO)으로 설정
     private Long id; // 상품 이미지의 고유 ID
 
-    private String imgName; // 이미지 파일 이름 (서버에 저장될 이미지 파일 이름)
+    private String imgName; // 이미지 파일 이름 (서버에 저장될 이미지 파일 이름, 내용 해시 + 확장자)
 
     private String oriImgName; // 원본 이미지 파일 이름 (사용자가 업로드한 원래 파일 이름)
 
     private String imgUrl; // 이미지 조회 경로 (이미지를 조회할 수 있는 URL 경로)
 
+    private String smallImgUrl; // 작은 썸네일 조회 경로 (썸네일이 없으면 imgUrl과 같음)
+
+    private String mediumImgUrl; // 중간 썸네일 조회 경로 (썸네일이 없으면 imgUrl과 같음)
+
     private String repImgYn; // 대표 이미지 여부 (Y/N으로 대표 이미지를 표시)
 
     @ManyToOne(fetch = FetchType.LAZY) // 다대일 관계로 설정, 지연 로딩 사용 (필요할 때만 로딩)
@@ -31,5 +41,13 @@ public class ItemImg extends BaseEntity{ // BaseEntity를 상속하여 생성, 
         this.oriImgName = oriImgName; // 원본 이미지 파일 이름 업데이트
         this.imgName = imgName; // 저장된 이미지 파일 이름 업데이트
         this.imgUrl = imgUrl; // 이미지 조회 경로(URL) 업데이트
+        this.smallImgUrl = imgUrl; // 썸네일은 updateThumbImgUrl()로 따로 지정
+        this.mediumImgUrl = imgUrl;
+    }
+
+    // 썸네일 조회 경로를 업데이트하는 메서드 (작은 썸네일, 중간 썸네일)
+    public void updateThumbImgUrl(String smallImgUrl, String mediumImgUrl){
+        this.smallImgUrl = smallImgUrl; // 작은 썸네일 URL 업데이트
+        this.mediumImgUrl = mediumImgUrl; // 중간 썸네일 URL 업데이트
     }
 }
@@ -76,12 +76,9 @@ public class Order extends BaseEntity{
     }
 
     // 주문을 취소하는 메서드
+    // 재고 복구는 OrderService에서 update 쿼리(ItemRepository.addStock)로 처리
     public void cancelOrder() {
         this.orderStatus = OrderStatus.CANCEL; // 주문 상태를 'CANCEL'로 변경
-
-        for (OrderItem orderItem : orderItems) {
-            orderItem.cancel(); // 각 주문 항목(OrderItem)의 재고를 복구하기 위해 cancel() 호출
-        }
     }
 
 }
@@ -47,7 +47,7 @@ public class OrderItem extends BaseEntity{
         orderItem.setCount(count); // 구매 수량 설정
         orderItem.setOrderPrice(item.getPrice()); // 아이템의 가격 설정
 
-        item.removeStock(count); // 구매한 수량만큼 재고 차감
+        // 재고 차감은 OrderService에서 조건부 update 쿼리(ItemRepository.removeStock)로 처리
 
         return orderItem; // 완성된 OrderItem 객체 반환
     }
@@ -56,9 +56,4 @@ public class OrderItem extends BaseEntity{
         // 총 가격 계산 메서드: 주문 가격(orderPrice)과 수량(count)을 곱함
         return orderPrice*count;
     }
-
-    // 주문 취소하면 주문 수량만큼 상품의 재고를 더해줌
-    public void cancel(){
-        this.getItem().addStock(count);
-    }
 }
@@ -4,7 +4,9 @@ import com.shop.dto.CartDetailDto;
 import com.shop.entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 // 장바구니 항목을 관리하는 Repository 인터페이스
@@ -16,18 +18,25 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     /**
      * 장바구니에 있는 항목들의 상세 정보를 가져오는 JPQL 쿼리
      * - CartDetailDto 생성자를 사용하여 필요한 필드를 조회 및 매핑
-     * - CartItem(ci)와 ItemImg(im)를 조인하여 대표 이미지 URL을 가져옴
+     * - 대표 이미지는 Item의 repSmallImgUrl(작은 썸네일)을 사용하므로 ItemImg와 조인하지 않음
      * - 조건:
      *   1. 장바구니 ID가 :cartId인 항목
-     *   2. 해당 상품의 대표 이미지 (repImgYn = 'Y')만 가져옴
      * - 등록 시간(regTime)을 기준으로 내림차순 정렬
      */
-    @Query("select new com.shop.dto.CartDetailDto(ci.id, i.itemNm, i.price, ci.count, im.imgUrl) " +
-            "from CartItem ci, ItemImg im " +  // CartItem과 ItemImg 엔티티를 사용
+    @Query("select new com.shop.dto.CartDetailDto(ci.id, i.itemNm, i.price, ci.count, i.repSmallImgUrl) " +
+            "from CartItem ci " +
             "join ci.item i " +  // CartItem과 Item을 조인
             "where ci.cart.id = :cartId " +  // 장바구니 ID가 일치하는 조건
-            "and im.item.id = ci.item.id " +  // ItemImg의 item.id가 CartItem의 item.id와 일치
-            "and im.repImgYn = 'Y' " +  // 대표 이미지 여부 확인 (Y)
             "order by ci.regTime desc")  // 등록 시간 기준 내림차순 정렬
     List<CartDetailDto> findCartDetailDtoList(Long cartId);
+
+    /**
+     * 전달된 장바구니 항목 중 해당 이메일 회원의 장바구니에 속한 항목 수를 세는 JPQL 쿼리
+     * - 장바구니 항목마다 회원/장바구니를 따로 조회하지 않고 한 번의 쿼리로 소유자를 검증할 때 사용
+     * - 결과가 전달한 ID 수와 같으면 모든 항목이 해당 회원의 것임
+     */
+    @Query("select count(ci) from CartItem ci " +
+            "where ci.id in :cartItemIds " +
+            "and ci.cart.member.email = :email")
+    long countOwnedCartItems(@Param("cartItemIds") Collection<Long> cartItemIds, @Param("email") String email);
 }
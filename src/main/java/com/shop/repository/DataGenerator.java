@@ -0,0 +1,387 @@
+package com.shop.repository;
+
+import com.shop.dto.DataGeneratorDto;
+import com.shop.entity.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 📘 **DataGenerator 클래스**
+ *
+ * 성능 테스트용 대량 데이터(상품, 상품 이미지, 회원, 장바구니, 주문)를 **JDBC 배치 insert**로 생성합니다.
+ *
+ * 🛠️ **주요 역할**
+ * - JPA를 거치지 않고 PreparedStatement 배치로 저장하여 수백만 건도 수 분 안에 생성합니다.
+ * - 상품 인기도는 Zipf 분포를 따르므로 소수의 상품에 주문/장바구니가 몰립니다.
+ * - 일부 회원(heavyMemberRatio)은 주문 내역이 매우 깁니다.
+ * - 기존 데이터 뒤에 이어서 생성하며, 생성 후 Hibernate 시퀀스(테이블명_seq)를 최대 ID 이후로 옮겨 ID 충돌을 막습니다.
+ * - H2, MySQL을 지원합니다. (MySQL은 URL에 rewriteBatchedStatements=true를 붙이면 훨씬 빠릅니다.)
+ *
+ * 생성된 회원은 `seed{회원ID}@shop.test / password1234`로 로그인할 수 있습니다.
+ */
+@Log
+@Component
+@RequiredArgsConstructor
+public class DataGenerator {
+
+    public static final String MEMBER_PASSWORD = "password1234"; // 생성된 회원의 비밀번호
+
+    private static final String[] ITEM_WORDS = {"반팔", "긴팔", "오버핏", "슬림", "린넨", "데님", "니트", "기모", "스트라이프", "베이직"};
+    private static final String[] ITEM_TYPES = {"셔츠", "티셔츠", "청바지", "면바지", "후드", "자켓", "코트", "원피스", "스커트", "가디건"};
+    private static final String[] CITIES = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "수원"};
+
+    private final DataSource dataSource;
+
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * 📘 **데이터 생성 메서드 (generate)**
+     *
+     * @param dto 생성할 데이터 양과 분포
+     * @return 생성한 전체 행 수
+     */
+    public long generate(DataGeneratorDto dto) throws SQLException {
+        long start = System.currentTimeMillis();
+        Random random = new Random(dto.getRandomSeed());
+        long rows = 0;
+
+        try (Connection con = dataSource.getConnection()) {
+            con.setAutoCommit(false);
+
+            long memberBase = maxId(con, "member", "member_id");
+            long itemBase = maxId(con, "item", "item_id");
+            long itemImgBase = maxId(con, "item_img", "item_img_id");
+            long cartBase = maxId(con, "cart", "cart_id");
+            long cartItemBase = maxId(con, "cart_item", "cart_item_id");
+            long orderBase = maxId(con, "orders", "order_id");
+            long orderItemBase = maxId(con, "order_item", "order_item_id");
+
+            // 1️⃣ 상품 + 상품 이미지
+            int[] prices = new int[dto.getItems()];
+            rows += insertItems(con, dto, random, itemBase, itemImgBase, prices);
+
+            // 2️⃣ 회원
+            rows += insertMembers(con, dto, memberBase);
+
+            // 3️⃣ 장바구니 + 장바구니 상품
+            ZipfSampler itemSampler = new ZipfSampler(dto.getItems(), dto.getZipfExponent());
+            rows += insertCarts(con, dto, random, itemSampler, memberBase, itemBase, cartBase, cartItemBase);
+
+            // 4️⃣ 주문 + 주문 상품
+            rows += insertOrders(con, dto, random, itemSampler, prices, memberBase, itemBase, orderBase, orderItemBase);
+
+            // 5️⃣ Hibernate 시퀀스를 생성한 ID 이후로 이동
+            for (String table : new String[]{"member", "item", "item_img", "cart", "cart_item", "orders", "order_item"}) {
+                moveSequence(con, table, maxId(con, table, idColumn(table)));
+            }
+            con.commit();
+        }
+
+        log.info("테스트 데이터 " + rows + "건 생성 완료 (" + (System.currentTimeMillis() - start) + "ms)");
+        return rows;
+    }
+
+    private long insertItems(Connection con, DataGeneratorDto dto, Random random,
+                             long itemBase, long itemImgBase, int[] prices) throws SQLException {
+        String itemSql = "insert into item (item_id, item_nm, price, stock_number, item_detail, item_summary, item_sell_status, rep_img_url, "
+                + "rep_small_img_url, rep_medium_img_url, reg_time, update_time, created_by, modified_by) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String itemImgSql = "insert into item_img (item_img_id, item_id, img_name, ori_img_name, img_url, small_img_url, medium_img_url, rep_img_yn, "
+                + "reg_time, update_time, created_by, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        long rows = 0;
+        long itemImgId = itemImgBase;
+        try (PreparedStatement itemPs = con.prepareStatement(itemSql);
+             PreparedStatement itemImgPs = con.prepareStatement(itemImgSql)) {
+
+            for (int i = 0; i < dto.getItems(); i++) {
+                long itemId = itemBase + i + 1;
+                Timestamp regTime = randomTime(random, 730);
+                String itemNm = ITEM_WORDS[random.nextInt(ITEM_WORDS.length)] + " "
+                        + ITEM_TYPES[random.nextInt(ITEM_TYPES.length)] + " " + itemId;
+                prices[i] = (1 + random.nextInt(200)) * 500; // 500원 ~ 100,000원
+
+                itemPs.setLong(1, itemId);
+                itemPs.setString(2, itemNm);
+                itemPs.setInt(3, prices[i]);
+                itemPs.setInt(4, random.nextInt(1000));
+                String itemDetail = itemNm + " 상품 상세 설명입니다. ".repeat(1 + random.nextInt(20));
+                itemPs.setString(5, itemDetail);
+                itemPs.setString(6, Item.createItemSummary(itemDetail));
+                itemPs.setString(7, random.nextInt(10) == 0 ? "SOLD_OUT" : "SELL");
+                // 생성 데이터는 썸네일 파일이 없으므로 썸네일 URL도 원본 URL 사용
+                String repImgUrl = dto.getImagesPerItem() > 0 ? imgUrl(itemImgId + 1) : null;
+                itemPs.setString(8, repImgUrl);
+                itemPs.setString(9, repImgUrl);
+                itemPs.setString(10, repImgUrl);
+                setAudit(itemPs, 11, regTime);
+                itemPs.addBatch();
+                rows++;
+
+                for (int j = 0; j < dto.getImagesPerItem(); j++) {
+                    itemImgId++;
+                    itemImgPs.setLong(1, itemImgId);
+                    itemImgPs.setLong(2, itemId);
+                    itemImgPs.setString(3, "seed" + itemImgId + ".jpg");
+                    itemImgPs.setString(4, "original" + itemImgId + ".jpg");
+                    itemImgPs.setString(5, imgUrl(itemImgId));
+                    itemImgPs.setString(6, imgUrl(itemImgId));
+                    itemImgPs.setString(7, imgUrl(itemImgId));
+                    itemImgPs.setString(8, j == 0 ? "Y" : "N");
+                    setAudit(itemImgPs, 9, regTime);
+                    itemImgPs.addBatch();
+                    rows++;
+                }
+
+                if ((i + 1) % dto.getBatchSize() == 0) {
+                    flush(con, itemPs, itemImgPs);
+                }
+            }
+            flush(con, itemPs, itemImgPs);
+        }
+        log.info("상품 " + dto.getItems() + "건, 상품 이미지 " + (itemImgId - itemImgBase) + "건 생성");
+        return rows;
+    }
+
+    private long insertMembers(Connection con, DataGeneratorDto dto, long memberBase) throws SQLException {
+        String sql = "insert into member (member_id, name, email, password, address, role, "
+                + "reg_time, update_time, created_by, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        // BCrypt는 느리므로 비밀번호는 한 번만 암호화하여 모든 회원이 같은 값을 사용
+        String password = passwordEncoder.encode(MEMBER_PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            for (int i = 0; i < dto.getMembers(); i++) {
+                long memberId = memberBase + i + 1;
+                ps.setLong(1, memberId);
+                ps.setString(2, "회원" + memberId);
+                ps.setString(3, "seed" + memberId + "@shop.test");
+                ps.setString(4, password);
+                ps.setString(5, CITIES[(int) (memberId % CITIES.length)] + " 테스트로 " + memberId);
+                ps.setString(6, "USER");
+                setAudit(ps, 7, now);
+                ps.addBatch();
+
+                if ((i + 1) % dto.getBatchSize() == 0) {
+                    flush(con, ps);
+                }
+            }
+            flush(con, ps);
+        }
+        log.info("회원 " + dto.getMembers() + "건 생성");
+        return dto.getMembers();
+    }
+
+    private long insertCarts(Connection con, DataGeneratorDto dto, Random random, ZipfSampler itemSampler,
+                             long memberBase, long itemBase, long cartBase, long cartItemBase) throws SQLException {
+        String cartSql = "insert into cart (cart_id, member_id, reg_time, update_time, created_by, modified_by) "
+                + "values (?, ?, ?, ?, ?, ?)";
+        String cartItemSql = "insert into cart_item (cart_item_id, cart_id, item_id, count, "
+                + "reg_time, update_time, created_by, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        long rows = 0;
+        long cartItemId = cartItemBase;
+        try (PreparedStatement cartPs = con.prepareStatement(cartSql);
+             PreparedStatement cartItemPs = con.prepareStatement(cartItemSql)) {
+
+            for (int i = 0; i < dto.getMembers(); i++) {
+                long cartId = cartBase + i + 1;
+                Timestamp regTime = randomTime(random, 30);
+
+                cartPs.setLong(1, cartId);
+                cartPs.setLong(2, memberBase + i + 1);
+                setAudit(cartPs, 3, regTime);
+                cartPs.addBatch();
+                rows++;
+
+                // 같은 장바구니에 같은 상품이 중복되지 않도록 상품 번호를 모아서 확인
+                int cartItemCount = dto.getItems() == 0 ? 0 : random.nextInt(dto.getMaxCartItemsPerMember() + 1);
+                Set<Integer> itemIndexes = new HashSet<>();
+                for (int j = 0; j < cartItemCount; j++) {
+                    int itemIndex = itemSampler.sample(random);
+                    if (!itemIndexes.add(itemIndex)) {
+                        continue;
+                    }
+                    cartItemId++;
+                    cartItemPs.setLong(1, cartItemId);
+                    cartItemPs.setLong(2, cartId);
+                    cartItemPs.setLong(3, itemBase + itemIndex + 1);
+                    cartItemPs.setInt(4, 1 + random.nextInt(3));
+                    setAudit(cartItemPs, 5, regTime);
+                    cartItemPs.addBatch();
+                    rows++;
+                }
+
+                if ((i + 1) % dto.getBatchSize() == 0) {
+                    flush(con, cartPs, cartItemPs);
+                }
+            }
+            flush(con, cartPs, cartItemPs);
+        }
+        log.info("장바구니 " + dto.getMembers() + "건, 장바구니 상품 " + (cartItemId - cartItemBase) + "건 생성");
+        return rows;
+    }
+
+    private long insertOrders(Connection con, DataGeneratorDto dto, Random random, ZipfSampler itemSampler, int[] prices,
+                              long memberBase, long itemBase, long orderBase, long orderItemBase) throws SQLException {
+        String orderSql = "insert into orders (order_id, member_id, order_date, order_status, "
+                + "reg_time, update_time, created_by, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)";
+        String orderItemSql = "insert into order_item (order_item_id, order_id, item_id, order_price, count, "
+                + "reg_time, update_time, created_by, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        if (dto.getItems() == 0) {
+            return 0;
+        }
+
+        // 앞쪽 회원 일부를 주문 내역이 긴 회원으로 지정
+        int heavyMembers = (int) Math.ceil(dto.getMembers() * dto.getHeavyMemberRatio());
+
+        long rows = 0;
+        long orderId = orderBase;
+        long orderItemId = orderItemBase;
+        try (PreparedStatement orderPs = con.prepareStatement(orderSql);
+             PreparedStatement orderItemPs = con.prepareStatement(orderItemSql)) {
+
+            int pending = 0;
+            for (int i = 0; i < dto.getMembers(); i++) {
+                long memberId = memberBase + i + 1;
+                int orderCount = i < heavyMembers
+                        ? dto.getHeavyOrdersPerMember()
+                        : random.nextInt(dto.getOrdersPerMember() * 2 + 1);
+
+                for (int j = 0; j < orderCount; j++) {
+                    orderId++;
+                    Timestamp orderDate = randomTime(random, 365);
+
+                    orderPs.setLong(1, orderId);
+                    orderPs.setLong(2, memberId);
+                    orderPs.setTimestamp(3, orderDate);
+                    orderPs.setString(4, random.nextDouble() < dto.getCancelRatio() ? "CANCEL" : "ORDER");
+                    setAudit(orderPs, 5, orderDate);
+                    orderPs.addBatch();
+                    rows++;
+
+                    int lines = 1 + random.nextInt(dto.getMaxItemsPerOrder());
+                    for (int k = 0; k < lines; k++) {
+                        int itemIndex = itemSampler.sample(random);
+                        orderItemId++;
+                        orderItemPs.setLong(1, orderItemId);
+                        orderItemPs.setLong(2, orderId);
+                        orderItemPs.setLong(3, itemBase + itemIndex + 1);
+                        orderItemPs.setInt(4, prices[itemIndex]);
+                        orderItemPs.setInt(5, 1 + random.nextInt(3));
+                        setAudit(orderItemPs, 6, orderDate);
+                        orderItemPs.addBatch();
+                        rows++;
+                    }
+
+                    if (++pending % dto.getBatchSize() == 0) {
+                        flush(con, orderPs, orderItemPs);
+                    }
+                }
+            }
+            flush(con, orderPs, orderItemPs);
+        }
+        log.info("주문 " + (orderId - orderBase) + "건, 주문 상품 " + (orderItemId - orderItemBase) + "건 생성");
+        return rows;
+    }
+
+    // 배치 실행 후 커밋 (외래 키 순서대로 전달해야 함)
+    private void flush(Connection con, PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement ps : statements) {
+            ps.executeBatch();
+        }
+        con.commit();
+    }
+
+    // 등록/수정 시간과 등록/수정자 설정
+    private void setAudit(PreparedStatement ps, int index, Timestamp time) throws SQLException {
+        ps.setTimestamp(index, time);
+        ps.setTimestamp(index + 1, time);
+        ps.setString(index + 2, "seed");
+        ps.setString(index + 3, "seed");
+    }
+
+    // 현재 시각부터 days일 전 사이의 무작위 시각
+    private Timestamp randomTime(Random random, int days) {
+        long seconds = (long) (random.nextDouble() * days * 24 * 60 * 60);
+        return Timestamp.valueOf(LocalDateTime.now().minusSeconds(seconds));
+    }
+
+    private String imgUrl(long itemImgId) {
+        return "/images/item/seed" + itemImgId + ".jpg";
+    }
+
+    private String idColumn(String table) {
+        return "orders".equals(table) ? "order_id" : table + "_id";
+    }
+
+    private long maxId(Connection con, String table, String idColumn) throws SQLException {
+        try (Statement statement = con.createStatement();
+             ResultSet rs = statement.executeQuery("select coalesce(max(" + idColumn + "), 0) from " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Hibernate가 다음에 발급할 ID가 maxId보다 커지도록 시퀀스를 이동합니다.
+     * pooled 최적화(allocationSize 50)는 읽은 값 기준으로 앞쪽 50개를 사용하므로 여유를 두고 설정합니다.
+     */
+    private void moveSequence(Connection con, String table, long maxId) throws SQLException {
+        long next = maxId + 100;
+        String product = con.getMetaData().getDatabaseProductName();
+        try (Statement statement = con.createStatement()) {
+            if ("H2".equalsIgnoreCase(product)) {
+                statement.execute("alter sequence " + table + "_seq restart with " + next);
+            } else if ("MySQL".equalsIgnoreCase(product)) {
+                statement.executeUpdate("update " + table + "_seq set next_val = " + next);
+            } else {
+                log.warning(product + "의 시퀀스 " + table + "_seq는 직접 " + next + " 이상으로 이동해야 합니다.");
+            }
+        }
+    }
+
+    /**
+     * Zipf 분포로 0 ~ n-1 사이의 상품 번호를 뽑는 샘플러
+     * - 누적 확률표를 미리 만들어 두고 이진 탐색으로 뽑습니다.
+     */
+    static class ZipfSampler {
+
+        private final double[] cdf;
+
+        ZipfSampler(int n, double exponent) {
+            cdf = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                cdf[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        int sample(Random random) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble());
+            index = index >= 0 ? index : -index - 1;
+            return Math.min(index, cdf.length - 1);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.shop.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 📘 **ItemCountCache 클래스**
+ *
+ * 상품 목록 페이징에 쓰이는 전체 개수(count 쿼리 결과)를 검색 조건별로 잠시 보관하는 캐시입니다.
+ *
+ * 🛠️ **주요 역할**
+ * - 화면에는 최대 5페이지만 표시하므로 정확한 전체 개수가 매 요청마다 필요하지 않습니다.
+ * - 같은 검색 조건의 count 쿼리는 TTL(itemCountCacheTtl, 초) 동안 재사용합니다.
+ * - 상품 등록/수정 시(ItemService) 전체 캐시를 비워 새 상품이 바로 반영되도록 합니다. 커밋 직후에 한 번 더 비워
+ *   커밋 전의 데이터로 센 개수가 남지 않도록 합니다.
+ */
+@Component
+public class ItemCountCache {
+
+    // 검색어 조합이 많아져도 메모리를 과하게 쓰지 않도록 보관 개수 제한
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final TtlCache<Long> counts;
+
+    public ItemCountCache(@Value("${itemCountCacheTtl:30}") long ttlSeconds) {
+        this.counts = new TtlCache<>(ttlSeconds, MAX_ENTRIES);
+    }
+
+    /**
+     * 캐시된 개수를 반환하고, 없거나 만료되었으면 count 쿼리를 실행해 저장합니다.
+     *
+     * @param key 정규화된 검색 조건 키
+     * @param countQuery 실제 count 쿼리
+     * @return 전체 개수
+     */
+    public long get(String key, LongSupplier countQuery) {
+        return counts.get(key, countQuery::getAsLong);
+    }
+
+    /**
+     * 캐시된 모든 개수를 비웁니다. (상품 등록/수정 시 호출)
+     * 트랜잭션 중이면 커밋 직후에 한 번 더 비웁니다.
+     */
+    public void invalidateAll() {
+        counts.invalidateAll();
+    }
+}
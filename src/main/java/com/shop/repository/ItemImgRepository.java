@@ -1,7 +1,12 @@
 package com.shop.repository;
 
 import com.shop.entity.ItemImg; // ItemImg 엔티티를 import
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository; // JpaRepository 인터페이스를 import
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -17,8 +22,21 @@ import java.util.List;
  */
 public interface ItemImgRepository extends JpaRepository<ItemImg, Long> {
 
+    // 상품 상세 조회마다 실행되므로 쿼리 결과를 2차 캐시(쿼리 캐시)에 보관 (item_img 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ItemImg> findByItemIdOrderByIdAsc(Long itemId);
 
+    // 상품 상세 조회용: 상품 이미지와 상품을 fetch join으로 한 번에 조회 (상품 조회 쿼리, 지연 로딩 추가 쿼리 없음)
+    // - 반환 값: [상품 이미지(상품 포함), 상품 상세 설명] (상품 상세 설명은 지연 로딩 필드이므로 같은 쿼리에서 함께 조회, 이미지 id 순)
+    // - 쿼리 결과는 2차 캐시(쿼리 캐시)에 보관 (item, item_img 변경 시 자동 무효화)
+    //   상품은 ID만 보관하고 상품 엔티티 캐시에서 읽으므로, 주문 시 재고 변경은 해당 상품의 엔티티 캐시만 제거하면 반영됨
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select img, i.itemDetail from ItemImg img join fetch img.item i where i.id = :itemId order by img.id asc")
+    List<Object[]> findItemDtlByItemId(@Param("itemId") Long itemId);
+
     ItemImg findByItemIdAndRepImgYn(Long itemId, String repImgYn);
+
+    // 같은 이미지 파일(내용 해시 이름)을 사용하는 상품 이미지 수 (파일 삭제 전 확인용)
+    long countByImgName(String imgName);
 }
 
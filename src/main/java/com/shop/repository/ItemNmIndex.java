@@ -0,0 +1,156 @@
+package com.shop.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📘 **ItemNmIndex 클래스**
+ *
+ * 상품명(Item.itemNm)을 2글자 단위(bigram)로 쪼개어 애플리케이션 메모리에 보관하는 **역색인(inverted index)**입니다.
+ *
+ * 🛠️ **주요 역할**
+ * - `itemNm like '%검색어%'` 조건은 인덱스를 타지 못해 item 테이블 전체를 스캔합니다.
+ * - 이 색인으로 검색어가 포함된 상품 ID 후보를 먼저 구한 뒤, 해당 ID의 행만 DB에서 조회합니다.
+ * - 상품 등록/수정 시(ItemService.saveItem, updateItem) 색인이 함께 갱신됩니다.
+ * - 애플리케이션 기동 시 ItemService가 전체 상품명을 읽어 색인을 초기화합니다.
+ */
+@Component
+public class ItemNmIndex {
+
+    // 색인 단위 글자 수 (bigram)
+    private static final int GRAM_SIZE = 2;
+
+    // bigram -> 해당 bigram을 포함하는 상품 ID 집합
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 상품 ID -> 정규화된 상품명 (후보 검증용)
+    private final Map<Long, String> itemNms = new ConcurrentHashMap<>();
+
+    // 초기 적재가 끝나기 전에는 색인을 사용하지 않고 기존 like 검색으로 처리
+    private volatile boolean ready = false;
+
+    /**
+     * 상품명을 색인에 등록하거나, 이미 등록된 상품이면 새 이름으로 교체합니다.
+     *
+     * @param itemId 상품 ID
+     * @param itemNm 상품명
+     */
+    public synchronized void put(Long itemId, String itemNm) {
+        if (itemId == null || itemNm == null) {
+            return;
+        }
+
+        String normalized = normalize(itemNm);
+        String previous = itemNms.put(itemId, normalized);
+
+        // 이름이 바뀐 경우 이전 이름의 bigram에서 상품 ID 제거
+        if (previous != null) {
+            if (previous.equals(normalized)) {
+                return;
+            }
+            for (String gram : grams(previous)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(itemId);
+                }
+            }
+        }
+
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(itemId);
+        }
+    }
+
+    /**
+     * 색인에서 상품을 제거합니다.
+     *
+     * @param itemId 상품 ID
+     */
+    public synchronized void remove(Long itemId) {
+        String previous = itemNms.remove(itemId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(itemId);
+            }
+        }
+    }
+
+    /**
+     * 전체 상품명으로 색인을 다시 구성합니다. (애플리케이션 기동 시 사용)
+     *
+     * @param items 상품 ID -> 상품명
+     */
+    public synchronized void rebuild(Map<Long, String> items) {
+        postings.clear();
+        itemNms.clear();
+        items.forEach(this::put);
+        ready = true;
+    }
+
+    /**
+     * 검색어가 상품명에 포함된 상품 ID 목록을 최신순(ID 내림차순)으로 반환합니다.
+     *
+     * @param searchQuery 검색어
+     * @return 상품 ID 목록, 색인으로 처리할 수 없는 경우(초기화 전, 한 글자 검색어) null
+     */
+    public List<Long> search(String searchQuery) {
+        if (!ready || searchQuery == null) {
+            return null;
+        }
+
+        String query = normalize(searchQuery);
+        if (query.length() < GRAM_SIZE) {
+            return null; // bigram을 만들 수 없는 짧은 검색어는 like 검색으로 처리
+        }
+
+        // 검색어의 bigram 중 후보가 가장 적은 목록을 골라 검증 대상을 최소화
+        Set<Long> smallest = null;
+        for (String gram : grams(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null || ids.isEmpty()) {
+                return Collections.emptyList(); // 포함되지 않는 bigram이 있으면 결과 없음
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+
+        // 후보의 실제 상품명에 검색어가 연속으로 포함되어 있는지 검증
+        List<Long> result = new ArrayList<>();
+        for (Long itemId : smallest) {
+            String itemNm = itemNms.get(itemId);
+            if (itemNm != null && itemNm.contains(query)) {
+                result.add(itemId);
+            }
+        }
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+
+    // 대소문자 구분 없이 검색되도록 소문자로 정규화
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    // 문자열을 GRAM_SIZE 글자 단위로 잘라 중복 없는 집합으로 반환
+    private Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -67,4 +67,14 @@ public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredi
     // - List<Item>: 조건에 맞는 모든 `Item` 객체들을 리스트 형태로 반환합니다.
     // - findByItemDetailByNative: 주어진 `itemDetail`을 포함하는 항목들을 조회하는 네이티브 SQL 쿼리를 실행합니다.
 
+    // 상품명 역색인(ItemNmIndex) 초기화를 위해 상품 ID와 상품명만 조회 (상세 설명 등 큰 컬럼은 읽지 않음)
+    @Query("select i.id, i.itemNm from Item i")
+    List<Object[]> findAllIdAndItemNm();
+
+    // 상품 상세 페이지 조건부 요청(ETag/Last-Modified) 판단용: 상품과 상품 이미지의 마지막 수정 시간만 조회
+    // - 반환 값: [상품 수정 시간, 이미지 중 가장 최근 수정 시간] (상품이 없으면 빈 리스트)
+    @Query("select i.updateTime, (select max(img.updateTime) from ItemImg img where img.item.id = i.id) " +
+            "from Item i where i.id = :itemId")
+    List<Object[]> findItemDtlUpdateTimes(@Param("itemId") Long itemId);
+
 }
@@ -1,10 +1,11 @@
 package com.shop.repository;
 
+import com.shop.dto.AdminItemDto;
 import com.shop.dto.ItemSearchDto;
 import com.shop.dto.MainItemDto;
-import com.shop.entity.Item;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * 사용자 정의 리포지토리 인터페이스.
@@ -16,10 +17,59 @@ public interface ItemRepositoryCustom {
      *
      * @param itemSearchDto 상품 검색 조건을 담고 있는 DTO
      * @param pageable 페이지 정보 (페이지 번호, 사이즈 등)
-     * @return 검색 조건에 맞는 상품 데이터와 페이지 정보를 담은 Page 객체
+     * @return 검색 조건에 맞는 상품 목록 정보(상세 설명 제외)와 페이지 정보를 담은 Page 객체
      */
-    Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable);
+    Page<AdminItemDto> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable);
 
     Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable);
-}
 
+    /**
+     * 관리자 상품 관리 페이지를 커서(마지막으로 본 상품 ID) 기준으로 조회하는 메서드.
+     * offset 대신 item.id < lastItemId 조건을 사용하므로 뒤쪽 페이지도 조회 비용이 일정합니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담고 있는 DTO
+     * @param lastItemId 이전 페이지의 마지막 상품 ID (첫 페이지는 null)
+     * @param pageSize 페이지 크기
+     * @return 검색 조건에 맞는 상품 데이터와 다음 페이지 존재 여부를 담은 Slice 객체
+     */
+    Slice<AdminItemDto> getAdminItemSlice(ItemSearchDto itemSearchDto, Long lastItemId, int pageSize);
+
+    /**
+     * 메인 페이지 상품 목록을 커서(마지막으로 본 상품 ID) 기준으로 조회하는 메서드.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담고 있는 DTO
+     * @param lastItemId 이전 페이지의 마지막 상품 ID (첫 페이지는 null)
+     * @param pageSize 페이지 크기
+     * @return 검색 조건에 맞는 상품 데이터와 다음 페이지 존재 여부를 담은 Slice 객체
+     */
+    Slice<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Long lastItemId, int pageSize);
+
+    /**
+     * 메인 페이지 상품 목록을 전체 개수(count 쿼리) 없이 조회하는 메서드.
+     * pageSize + 1개를 조회하여 다음 페이지 존재 여부만 판단합니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담고 있는 DTO
+     * @param pageable 페이지 정보 (페이지 번호, 사이즈 등)
+     * @return 검색 조건에 맞는 상품 데이터와 다음 페이지 존재 여부를 담은 Slice 객체
+     */
+    Slice<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Pageable pageable);
+
+    /**
+     * 재고가 충분할 때만 주문 수량만큼 재고를 차감하는 조건부 update 쿼리를 실행합니다.
+     * 엔티티를 읽어 Java에서 빼고 변경 감지로 다시 쓰는 방식과 달리, DB가 한 문장으로 원자적으로 처리하므로 동시 주문 시 초과 판매가 없습니다.
+     *
+     * @param itemId 상품 ID
+     * @param count 차감할 수량
+     * @return 변경된 행 수 (0이면 상품이 없거나 재고 부족)
+     */
+    int removeStock(Long itemId, int count);
+
+    /**
+     * 주문 취소 시 주문 수량만큼 재고를 복구하는 update 쿼리를 실행합니다.
+     *
+     * @param itemId 상품 ID
+     * @param count 복구할 수량
+     * @return 변경된 행 수 (0이면 상품이 없음)
+     */
+    int addStock(Long itemId, int count);
+}
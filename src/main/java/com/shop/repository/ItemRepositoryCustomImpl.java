@@ -4,20 +4,32 @@ import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.shop.constant.ItemSellStatus;
+import com.shop.dto.AdminItemDto;
 import com.shop.dto.ItemSearchDto;
 import com.shop.dto.MainItemDto;
+import com.shop.dto.QAdminItemDto;
 import com.shop.dto.QMainItemDto;
 import com.shop.entity.Item;
 import com.shop.entity.QItem;
-import com.shop.entity.QItemImg;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.NativeQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.thymeleaf.util.PatternUtils;
 import org.thymeleaf.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
@@ -25,9 +37,49 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
     // Querydsl에서 제공하는 객체로, JPQL(Java Persistence Query Language)을 대신해 타입 안전한 쿼리를 생성하고 실행하는 데 사용
     private JPAQueryFactory queryFactory;// 동적으로 쿼리를 생성하기 위해 JPAQueryFactory 클래스를 씀
 
+    // 재고 변경 native 쿼리 실행, 영속성 컨텍스트의 상품을 다시 읽기 위해 사용
+    private final EntityManager entityManager;
+
+    // 상품명 검색 시 like 대신 후보 상품 ID를 구하는 메모리 역색인
+    private final ItemNmIndex itemNmIndex;
+
+    // 검색 조건별 전체 개수(count 쿼리 결과) 캐시
+    private final ItemCountCache itemCountCache;
+
+    // 색인 후보가 이 개수를 넘으면 in 조건이 오히려 비싸지므로 like 검색으로 처리
+    private static final int MAX_ITEM_NM_CANDIDATES = 1000;
+
     // JPAQueryFactory 생성자: EntityManager를 받아 Querydsl 쿼리를 실행하는 객체 생성
-    public ItemRepositoryCustomImpl(EntityManager entityManager){
+    public ItemRepositoryCustomImpl(EntityManager entityManager, ItemNmIndex itemNmIndex, ItemCountCache itemCountCache){
         this.queryFactory = new JPAQueryFactory(entityManager);
+        this.entityManager = entityManager;
+        this.itemNmIndex = itemNmIndex;
+        this.itemCountCache = itemCountCache;
+    }
+
+    // 관리자 페이지 count 캐시 키: 관리자 페이지는 모든 검색 조건을 사용
+    private String adminCountKey(ItemSearchDto itemSearchDto) {
+        return countKey("admin", itemSearchDto.getSearchDateType(), itemSearchDto.getSearchSellStatus(),
+                itemSearchDto.getSearchBy(), itemSearchDto.getSearchQuery());
+    }
+
+    // 메인 페이지 count 캐시 키: 메인 페이지는 검색어만 조건으로 사용
+    private String mainCountKey(ItemSearchDto itemSearchDto) {
+        return countKey("main", null, null, null, itemSearchDto.getSearchQuery());
+    }
+
+    // count 캐시 키: 검색 조건을 정규화하여 같은 검색이면 같은 키가 되도록 함
+    // - 조건으로 쓰이지 않는 등록일 범위는 "all", 검색 유형은 "", null인 판매 상태와 검색어는 ""로 통일하고 검색어는 앞뒤 공백 제거
+    private String countKey(String page, String searchDateType, ItemSellStatus searchSellStatus,
+                            String searchBy, String searchQuery) {
+        boolean hasDateType = StringUtils.equals("1d", searchDateType) || StringUtils.equals("1w", searchDateType)
+                || StringUtils.equals("1m", searchDateType) || StringUtils.equals("6m", searchDateType);
+        boolean hasSearchBy = StringUtils.equals("itemNm", searchBy) || StringUtils.equals("createdBy", searchBy);
+        return page
+                + ":" + (hasDateType ? searchDateType : "all")
+                + ":" + (searchSellStatus == null ? "" : searchSellStatus.name())
+                + ":" + (hasSearchBy ? searchBy : "")
+                + ":" + (searchQuery == null ? "" : searchQuery.trim());
     }
 
     // 판매 상태 조건 생성: 판매 상태가 null이 아니면 해당 상태와 일치하는 조건 생성
@@ -63,10 +115,25 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
 
     }
 
+    // 상품명 검색어에 해당하는 상품 ID 후보 조회: 색인으로 처리할 수 없으면 null 반환 (like 검색으로 대체)
+    private List<Long> itemNmCandidates(String searchQuery) {
+        if (StringUtils.isEmpty(searchQuery)) {
+            return null;
+        }
+        List<Long> itemIds = itemNmIndex.search(searchQuery);
+        if (itemIds == null || itemIds.size() > MAX_ITEM_NM_CANDIDATES) {
+            return null;
+        }
+        return itemIds;
+    }
+
     // 검색 조건 생성: 검색 유형(searchBy)과 검색어(searchQuery)에 따라 조건 생성
-    private BooleanExpression searchByLike(String searchBy, String searchQuery) {
-        // 상품명 기준 검색: 검색어가 상품명에 포함된 조건
+    private BooleanExpression searchByLike(String searchBy, String searchQuery, List<Long> itemNmCandidates) {
+        // 상품명 기준 검색: 색인 후보가 있으면 해당 ID만, 없으면 검색어가 상품명에 포함된 조건
         if (StringUtils.equals("itemNm", searchBy)) {
+            if (itemNmCandidates != null) {
+                return QItem.item.id.in(itemNmCandidates);
+            }
             return QItem.item.itemNm.like("%" + searchQuery + "%");
         }
         // 등록자 기준 검색: 검색어가 등록자 아이디에 포함된 조건
@@ -79,7 +146,7 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
     }
 
     @Override
-    public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
+    public Page<AdminItemDto> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
         //        QueryResults<Item> results = queryFactory
         //                .selectFrom(QItem.item)
         //                .where(regDtsAfter(itemSearchDto.getSearchDateType()),
@@ -93,14 +160,32 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
         //        long total = results.getTotal();
         //        return new PageImpl<>(content,pageable,total);
 
+        // 상품명 검색이면 색인에서 후보 상품 ID를 먼저 구함
+        List<Long> itemNmCandidates = StringUtils.equals("itemNm", itemSearchDto.getSearchBy())
+                ? itemNmCandidates(itemSearchDto.getSearchQuery()) : null;
+
+        // 후보가 하나도 없으면 DB 조회 없이 빈 페이지 반환
+        if (itemNmCandidates != null && itemNmCandidates.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+
         // 데이터 가져오기
-        // 데이터 조회 쿼리
-        List<Item> content = queryFactory
-                .selectFrom(QItem.item)
+        // 데이터 조회 쿼리: 목록에 표시할 컬럼만 조회 (상세 설명 등 큰 컬럼 제외)
+        List<AdminItemDto> content = queryFactory
+                .select(
+                        new QAdminItemDto(
+                                QItem.item.id,
+                                QItem.item.itemNm,
+                                QItem.item.itemSellStatus,
+                                QItem.item.createdBy,
+                                QItem.item.regTime
+                        )
+                )
+                .from(QItem.item)
                 .where(
                         regDtsAfter(itemSearchDto.getSearchDateType()), // 등록일 기준 조건
                         searchSellStatusEq(itemSearchDto.getSearchSellStatus()), // 판매 상태 조건
-                        searchByLike(itemSearchDto.getSearchBy(), itemSearchDto.getSearchQuery()) // 검색 조건 (상품명 또는 등록자 기준)
+                        searchByLike(itemSearchDto.getSearchBy(), itemSearchDto.getSearchQuery(), itemNmCandidates) // 검색 조건 (상품명 또는 등록자 기준)
                 )
                 .orderBy(QItem.item.id.desc()) // 최신 데이터 순으로 정렬
                 .offset(pageable.getOffset()) // 페이징 시작 위치
@@ -121,22 +206,27 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
 
         // count 전용 쿼리
         // 총 데이터 수 계산 쿼리
-        Long total = queryFactory
-                .select(QItem.item.count()) // 데이터 개수만 가져오는 쿼리
-                .from(QItem.item)
-                .where(
-                        regDtsAfter(itemSearchDto.getSearchDateType()), // 등록일 기준 조건
-                        searchSellStatusEq(itemSearchDto.getSearchSellStatus()), // 판매 상태 조건
-                        searchByLike(itemSearchDto.getSearchBy(), itemSearchDto.getSearchQuery()) // 검색 조건 (상품명 또는 등록자 기준)
-                )
-                .fetchOne(); // 총 데이터 개수 반환
-
-        // Page 객체 반환
-        //        return new PageImpl<>(content,pageable,total);
-        return new PageImpl<>(content, pageable, total != null ? total : 0); // 데이터와 페이징 정보 포함하여 반환
+        // - 첫 페이지이면서 조회 건수가 페이지 크기보다 작으면 count 쿼리 생략 (PageableExecutionUtils)
+        // - 같은 검색 조건의 개수는 ItemCountCache에서 재사용
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> itemCountCache.get(adminCountKey(itemSearchDto), () -> {
+                    Long total = queryFactory
+                            .select(QItem.item.count()) // 데이터 개수만 가져오는 쿼리
+                            .from(QItem.item)
+                            .where(
+                                    regDtsAfter(itemSearchDto.getSearchDateType()), // 등록일 기준 조건
+                                    searchSellStatusEq(itemSearchDto.getSearchSellStatus()), // 판매 상태 조건
+                                    searchByLike(itemSearchDto.getSearchBy(), itemSearchDto.getSearchQuery(), itemNmCandidates) // 검색 조건 (상품명 또는 등록자 기준)
+                            )
+                            .fetchOne(); // 총 데이터 개수 반환
+                    return total != null ? total : 0;
+                })); // 데이터와 페이징 정보 포함하여 반환
     }
 
-    private BooleanExpression itemNmLike(String searchQuery){
+    private BooleanExpression itemNmLike(String searchQuery, List<Long> itemNmCandidates){
+        if (itemNmCandidates != null) {
+            return QItem.item.id.in(itemNmCandidates); // 색인 후보 상품 ID만 조회
+        }
         return StringUtils.isEmpty(searchQuery) ? null : QItem.item.itemNm.like("%" + searchQuery + "%");
     }
 
@@ -144,7 +234,6 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
     public Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable){
 
         QItem item = QItem.item;
-        QItemImg itemImg = QItemImg.itemImg;
 
 //        QueryResults<MainItemDto> results = queryFactory
 //                .select(
@@ -169,40 +258,227 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
 //        List<MainItemDto> content = results.getResults();
 //        long total = results.getTotal();
 //        return new PageImpl<>(content, pageable, total);
+        // 색인에서 검색어에 해당하는 후보 상품 ID 조회
+        List<Long> itemNmCandidates = itemNmCandidates(itemSearchDto.getSearchQuery());
+
+        // 후보가 하나도 없으면 DB 조회 없이 빈 페이지 반환
+        if (itemNmCandidates != null && itemNmCandidates.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+
         // 데이터 리스트 조회
         List<MainItemDto> content = queryFactory
                 .select(
                         new QMainItemDto(
                                 item.id,
                                 item.itemNm,
-                                item.itemDetail,
-                                itemImg.imgUrl,
+                                item.itemSummary, // 상세 설명(@Lob) 대신 요약 컬럼만 조회
+                                item.repMediumImgUrl, // 원본 대신 중간 썸네일
                                 item.price
                         )
                 )
-                .from(itemImg)
-                .join(itemImg.item, item)
-                .where(itemImg.repImgYn.eq("Y"))
-                .where(itemNmLike(itemSearchDto.getSearchQuery()))
+                .from(item)
+                .where(item.repImgUrl.isNotNull()) // 대표 이미지가 등록된 상품만 조회
+                .where(itemNmLike(itemSearchDto.getSearchQuery(), itemNmCandidates))
                 .orderBy(item.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 총 개수 조회
-        Long totalCount = queryFactory
-                .select(item.count())
-                .from(itemImg)
-                .join(itemImg.item, item)
-                .where(itemImg.repImgYn.eq("Y"))
-                .where(itemNmLike(itemSearchDto.getSearchQuery()))
-                .fetchOne();
+        // 총 개수 조회: 캐시된 개수가 있으면 재사용, 첫 페이지에서 결과가 페이지 크기보다 작으면 생략
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> itemCountCache.get(mainCountKey(itemSearchDto), () -> {
+                    Long totalCount = queryFactory
+                            .select(item.count())
+                            .from(item)
+                            .where(item.repImgUrl.isNotNull())
+                            .where(itemNmLike(itemSearchDto.getSearchQuery(), itemNmCandidates))
+                            .fetchOne();
+
+                    // null 체크 후 기본값 처리
+                    return (totalCount != null) ? totalCount : 0;
+                }));
+
+    }
+
+    // 커서 조건 생성: 이전 페이지의 마지막 상품 ID보다 작은 상품만 조회 (첫 페이지는 조건 없음)
+    private BooleanExpression itemIdLt(Long lastItemId) {
+        return lastItemId == null ? null : QItem.item.id.lt(lastItemId);
+    }
+
+    // pageSize + 1개를 조회한 결과로 다음 페이지 존재 여부를 판단하여 Slice 생성
+    private <T> Slice<T> toSlice(List<T> content, int pageSize) {
+        boolean hasNext = content.size() > pageSize;
+        if (hasNext) {
+            content = new ArrayList<>(content.subList(0, pageSize)); // 다음 페이지 확인용으로 더 가져온 1건 제거
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    @Override
+    public Slice<AdminItemDto> getAdminItemSlice(ItemSearchDto itemSearchDto, Long lastItemId, int pageSize) {
+        List<Long> itemNmCandidates = StringUtils.equals("itemNm", itemSearchDto.getSearchBy())
+                ? itemNmCandidates(itemSearchDto.getSearchQuery()) : null;
+
+        if (itemNmCandidates != null && itemNmCandidates.isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, pageSize), false);
+        }
+
+        // offset 없이 item.id < lastItemId 조건과 id 내림차순 정렬로 PK 인덱스를 타고 바로 시작 위치를 찾음
+        List<AdminItemDto> content = queryFactory
+                .select(
+                        new QAdminItemDto(
+                                QItem.item.id,
+                                QItem.item.itemNm,
+                                QItem.item.itemSellStatus,
+                                QItem.item.createdBy,
+                                QItem.item.regTime
+                        )
+                )
+                .from(QItem.item)
+                .where(
+                        regDtsAfter(itemSearchDto.getSearchDateType()), // 등록일 기준 조건
+                        searchSellStatusEq(itemSearchDto.getSearchSellStatus()), // 판매 상태 조건
+                        searchByLike(itemSearchDto.getSearchBy(), itemSearchDto.getSearchQuery(), itemNmCandidates), // 검색 조건
+                        itemIdLt(lastItemId) // 커서 조건
+                )
+                .orderBy(QItem.item.id.desc())
+                .limit(pageSize + 1) // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+                .fetch();
+
+        return toSlice(content, pageSize);
+    }
+
+    @Override
+    public Slice<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Long lastItemId, int pageSize) {
+
+        QItem item = QItem.item;
+
+        List<Long> itemNmCandidates = itemNmCandidates(itemSearchDto.getSearchQuery());
+
+        if (itemNmCandidates != null && itemNmCandidates.isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, pageSize), false);
+        }
+
+        List<MainItemDto> content = queryFactory
+                .select(
+                        new QMainItemDto(
+                                item.id,
+                                item.itemNm,
+                                item.itemSummary, // 상세 설명(@Lob) 대신 요약 컬럼만 조회
+                                item.repMediumImgUrl, // 원본 대신 중간 썸네일
+                                item.price
+                        )
+                )
+                .from(item)
+                .where(item.repImgUrl.isNotNull()) // 대표 이미지가 등록된 상품만 조회
+                .where(itemNmLike(itemSearchDto.getSearchQuery(), itemNmCandidates))
+                .where(itemIdLt(lastItemId)) // 커서 조건
+                .orderBy(item.id.desc())
+                .limit(pageSize + 1) // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+                .fetch();
+
+        return toSlice(content, pageSize);
+    }
+
+    @Override
+    public Slice<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Pageable pageable) {
+
+        QItem item = QItem.item;
+
+        List<Long> itemNmCandidates = itemNmCandidates(itemSearchDto.getSearchQuery());
+
+        if (itemNmCandidates != null && itemNmCandidates.isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, false);
+        }
+
+        // count 쿼리 없이 pageSize + 1개를 조회해 다음 페이지 존재 여부만 판단
+        List<MainItemDto> content = queryFactory
+                .select(
+                        new QMainItemDto(
+                                item.id,
+                                item.itemNm,
+                                item.itemSummary, // 상세 설명(@Lob) 대신 요약 컬럼만 조회
+                                item.repMediumImgUrl, // 원본 대신 중간 썸네일
+                                item.price
+                        )
+                )
+                .from(item)
+                .where(item.repImgUrl.isNotNull()) // 대표 이미지가 등록된 상품만 조회
+                .where(itemNmLike(itemSearchDto.getSearchQuery(), itemNmCandidates))
+                .orderBy(item.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = new ArrayList<>(content.subList(0, pageable.getPageSize()));
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
 
-        // null 체크 후 기본값 처리
-        long total = (totalCount != null) ? totalCount : 0;
+    @Override
+    public int removeStock(Long itemId, int count) {
+        int updated = stockUpdateQuery("update item set stock_number = stock_number - :count "
+                        + "where item_id = :itemId and stock_number >= :count")
+                .setParameter("itemId", itemId)
+                .setParameter("count", count)
+                .executeUpdate();
 
-        // Page 객체 반환
-        return new PageImpl<>(content, pageable, total);
+        if (updated > 0) {
+            afterStockUpdate(itemId);
+        }
+        return updated;
+    }
+
+    @Override
+    public int addStock(Long itemId, int count) {
+        int updated = stockUpdateQuery("update item set stock_number = stock_number + :count where item_id = :itemId")
+                .setParameter("itemId", itemId)
+                .setParameter("count", count)
+                .executeUpdate();
+
+        if (updated > 0) {
+            afterStockUpdate(itemId);
+        }
+        return updated;
+    }
+
+    // 재고 변경용 native update 쿼리 생성
+    // - JPQL update나 동기화 대상이 없는 native 쿼리는 Hibernate가 상품 2차 캐시 영역 전체와 상품 테이블의 쿼리 캐시를 비움
+    // - 어떤 테이블과도 일치하지 않는 query space("")를 지정하여 전체 무효화를 막고, 변경한 상품 한 건만 직접 캐시에서 제거
+    private NativeQuery<?> stockUpdateQuery(String sql) {
+        entityManager.flush(); // query space를 지정하면 자동 flush 대상이 아니므로 실행 전 변경 내용을 먼저 반영
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("");
+    }
+
+    // 재고를 변경한 상품 한 건만 2차 캐시에서 제거하고, 영속성 컨텍스트에 읽어 둔 상품은 다시 읽음
+    private void afterStockUpdate(Long itemId) {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Item.class, itemId);
+
+        // 트랜잭션이 끝날 때 한 번 더 제거 (커밋 전에 다른 요청이 이전 재고를 다시 캐시하거나, 롤백된 재고가 캐시에 남지 않도록)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evictEntityData(Item.class, itemId);
+                }
+            });
+        }
 
+        refreshIfLoaded(itemId);
+    }
+
+    // 영속성 컨텍스트에 이미 읽어 둔 상품이 있으면 변경된 재고로 다시 읽음
+    // (영속성 컨텍스트 전체를 초기화하지 않으므로 호출한 쪽의 다른 엔티티는 그대로 관리됨)
+    private void refreshIfLoaded(Long itemId) {
+        Item loaded = entityManager.getReference(Item.class, itemId); // 읽어 둔 상품이 없으면 조회 없이 프록시만 생성
+        if (Hibernate.isInitialized(loaded)) {
+            entityManager.refresh(loaded);
+        }
     }
 }
@@ -23,6 +23,15 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // @Param: JPQL에서 사용되는 파라미터 바인딩
     // Pageable: 페이지 번호와 페이지 크기 등 페이징 정보를 포함한 객체
 
+    // 페이징으로 조회한 주문들의 주문 상품과 상품을 한 번의 쿼리로 함께 조회 (fetch join)
+    // 컬렉션 fetch join은 페이징과 함께 쓸 수 없으므로 findOrders로 페이지를 먼저 구한 뒤 주문 ID로 조회
+    // 이미 영속성 컨텍스트에 있는 주문 엔티티의 orderItems 컬렉션과 item이 초기화됨
+    @Query("select distinct o from Order o " +
+            "join fetch o.orderItems oi " +
+            "join fetch oi.item " +
+            "where o.id in :orderIds")
+    List<Order> findOrdersWithItems(@Param("orderIds") List<Long> orderIds);
+
     // 사용자 이메일을 기준으로 해당 사용자의 총 주문 건수를 조회하는 쿼리
     // "select count(o)": JPQL에서 주문 수를 세기 위한 count 함수 사용
     @Query("select count(o) from Order o " +
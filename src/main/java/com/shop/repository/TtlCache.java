@@ -0,0 +1,101 @@
+package com.shop.repository;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 📘 **TtlCache 클래스**
+ *
+ * 조회 결과를 키별로 일정 시간(TTL) 동안 애플리케이션 메모리에 보관하는 간단한 캐시입니다.
+ * 상품 목록 개수 캐시(ItemCountCache)와 메인 페이지 목록 캐시(MainItemCache)가 함께 사용합니다.
+ *
+ * 🛠️ **동작 방식**
+ * - 캐시된 값이 없거나 만료되었으면 loader로 조회하여 저장합니다.
+ * - 보관 개수가 maxEntries에 도달하면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 전체를 비웁니다.
+ * - invalidateAll()은 즉시 비우고, 트랜잭션 중이면 커밋 직후에 한 번 더 비워 커밋 전의 데이터로 조회한 결과가 남지 않도록 합니다.
+ * - 조회 도중 무효화되었다면 그 결과는 저장하지 않습니다. (세대 번호로 판단)
+ *
+ * @param <V> 캐시할 값 타입
+ */
+public class TtlCache<V> {
+
+    private final long ttlMillis;
+
+    private final int maxEntries;
+
+    private final Map<String, CachedValue<V>> values = new ConcurrentHashMap<>();
+
+    // 무효화될 때마다 증가하는 세대 번호: 무효화 이전에 시작된 조회 결과가 다시 저장되지 않도록 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param ttlSeconds 항목 유지 시간 (초)
+     * @param maxEntries 최대 보관 개수 (검색어 조합이 많아져도 메모리를 과하게 쓰지 않도록 제한)
+     */
+    public TtlCache(long ttlSeconds, int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료되었으면 조회하여 저장합니다.
+     *
+     * @param key 캐시 키
+     * @param loader 실제 조회
+     * @return 캐시된 값 또는 새로 조회한 값
+     */
+    public V get(String key, Supplier<V> loader) {
+        long now = System.currentTimeMillis();
+
+        CachedValue<V> cached = values.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+
+        long startGeneration = generation.get();
+        V value = loader.get();
+
+        // 조회 도중 상품 변경으로 무효화되었다면 결과를 저장하지 않음
+        if (startGeneration == generation.get()) {
+            if (values.size() >= maxEntries) {
+                values.values().removeIf(entry -> entry.expiresAt() <= now);
+                if (values.size() >= maxEntries) {
+                    values.clear();
+                }
+            }
+            values.put(key, new CachedValue<>(value, now + ttlMillis));
+        }
+        return value;
+    }
+
+    /**
+     * 캐시된 모든 값을 비웁니다.
+     * 트랜잭션 중이면 커밋 직후에 한 번 더 비웁니다.
+     */
+    public void invalidateAll() {
+        clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        values.clear();
+    }
+
+    // 캐시된 값과 만료 시각
+    private record CachedValue<V>(V value, long expiresAt) {
+    }
+}
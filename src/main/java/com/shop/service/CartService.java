@@ -16,10 +16,14 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service // Spring Service 컴포넌트로 등록하여 비즈니스 로직을 처리하는 클래스임을 명시합니다.
 @RequiredArgsConstructor // Lombok 어노테이션으로, final 필드에 대한 생성자를 자동 생성합니다.
@@ -31,20 +35,24 @@ public class CartService {
     private final CartRepository cartRepository; // 장바구니 정보를 관리하기 위한 Repository
     private final CartItemRepository cartItemRepository; // 장바구니 상품 정보를 관리하기 위한 Repository
     private final OrderService orderService;
+    private final MemberIdCache memberIdCache; // 이메일 -> 회원 ID 캐시
 
     // 장바구니에 상품을 추가하는 메서드
     public Long addCart(CartItemDto cartItemDto, String email) {
+        return addCart(cartItemDto, memberIdCache.getMemberId(email));
+    }
+
+    // 장바구니에 상품을 추가하는 메서드 (회원 ID로 추가)
+    public Long addCart(CartItemDto cartItemDto, Long memberId) {
         // 상품 조회 - 상품 ID를 사용하여 Item 엔티티를 가져옵니다. 없으면 예외 발생
         Item item = itemRepository.findById(cartItemDto.getItemId()).orElseThrow(EntityNotFoundException::new);
 
-        // 회원 조회 - 이메일을 사용하여 Member 엔티티를 가져옵니다.
-        Member member = memberRepository.findByEmail(email);
-
         // 장바구니 조회 - 회원 ID를 사용하여 Cart 엔티티를 가져옵니다.
-        Cart cart = cartRepository.findByMemberId(member.getId());
+        Cart cart = cartRepository.findByMemberId(memberId);
 
         // 장바구니가 없으면 새 장바구니 생성 및 저장
         if (cart == null) {
+            Member member = memberRepository.getReferenceById(memberId); // 회원 엔티티 참조 (조회 쿼리 없음)
             cart = Cart.createCart(member); // Cart 엔티티 생성
             cartRepository.save(cart); // 새 장바구니를 DB에 저장
         }
@@ -67,11 +75,14 @@ public class CartService {
 
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션 적용: 데이터 조회 시 성능 향상을 위해 읽기 전용 모드로 설정합니다.
     public List<CartDetailDto> getCartList(String email) {
-        List<CartDetailDto> cartDetailDtoList = new ArrayList<>(); // 장바구니 정보를 담을 DTO 리스트를 생성합니다.
+        return getCartList(memberIdCache.getMemberId(email)); // 캐시된 회원 ID로 장바구니를 조회합니다.
+    }
 
-        Member member = memberRepository.findByEmail(email); // 이메일을 사용하여 회원 정보를 조회합니다.
+    @Transactional(readOnly = true)
+    public List<CartDetailDto> getCartList(Long memberId) {
+        List<CartDetailDto> cartDetailDtoList = new ArrayList<>(); // 장바구니 정보를 담을 DTO 리스트를 생성합니다.
 
-        Cart cart = cartRepository.findByMemberId(member.getId()); // 회원 ID를 사용하여 해당 회원의 장바구니를 조회합니다.
+        Cart cart = cartRepository.findByMemberId(memberId); // 회원 ID를 사용하여 해당 회원의 장바구니를 조회합니다.
 
         if (cart == null) { // 해당 회원의 장바구니가 없을 경우
             return cartDetailDtoList; // 비어 있는 리스트를 반환하여 장바구니가 비어 있음을 알립니다.
@@ -87,21 +98,21 @@ public class CartService {
     // 장바구니 항목의 소유자를 검증하는 메서드입니다.
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션으로 설정하여 데이터 변경 없이 조회만 수행합니다.
     public boolean validateCartItem(Long cartItemId, String email) {
-        // 이메일을 사용하여 현재 로그인된 회원 정보를 가져옵니다.
-        Member member = memberRepository.findByEmail(email);
-
-        // cartItemId를 사용하여 장바구니 항목을 조회합니다. 항목이 없으면 예외를 발생시킵니다.
-        CartItem cartItem = cartItemRepository.findById(cartItemId).orElseThrow(EntityNotFoundException::new);
+        return validateCartItems(List.of(cartItemId), email);
+    }
 
-        // 장바구니 항목에 연관된 회원 정보를 가져옵니다.
-        Member savedMember = cartItem.getCart().getMember();
+    // 여러 장바구니 항목의 소유자를 한 번의 쿼리로 검증하는 메서드입니다.
+    // 모든 항목이 로그인한 회원의 장바구니에 있으면 true, 하나라도 없거나 다른 회원의 것이면 false를 반환합니다.
+    @Transactional(readOnly = true)
+    public boolean validateCartItems(Collection<Long> cartItemIds, String email) {
+        Set<Long> ids = new HashSet<>(cartItemIds); // 중복 ID 제거
 
-        // 로그인된 회원과 장바구니 항목 소유자가 일치하지 않으면 false 반환
-        if (!StringUtils.equals(member.getEmail(), savedMember.getEmail())) {
-            return false; // 소유자가 다르면 false 반환
+        if (ids.isEmpty() || ids.contains(null)) {
+            return false;
         }
 
-        return true; // 소유자가 같으면 true 반환
+        // 회원 장바구니에 속한 항목 수가 요청한 항목 수와 같은지 확인
+        return cartItemRepository.countOwnedCartItems(ids, email) == ids.size();
     }
 
     // 장바구니 항목의 수량을 업데이트하는 메서드입니다.
@@ -125,14 +136,25 @@ public class CartService {
 
     public Long orderCartItem(List<CartOrderDto> cartOrderDtoList, String email) {
 
+        // 주문할 장바구니 항목 ID 목록
+        List<Long> cartItemIds = cartOrderDtoList.stream().map(CartOrderDto::getCartItemId).toList();
+
+        // 장바구니 항목을 한 번의 쿼리(in 조건)로 조회하여 ID별로 보관
+        Map<Long, CartItem> cartItemMap = new HashMap<>();
+        for (CartItem cartItem : cartItemRepository.findAllById(cartItemIds)) {
+            cartItemMap.put(cartItem.getId(), cartItem);
+        }
+
         // 주문 요청 데이터를 담을 리스트 생성
         List<OrderDto> orderDtoList = new ArrayList<>();
 
-        // 전달받은 장바구니 주문 DTO 리스트를 반복 처리
-        for (CartOrderDto cartOrderDto : cartOrderDtoList) {
-            // 장바구니 항목 ID를 통해 CartItem 엔티티를 조회. 없으면 예외 발생
-            CartItem cartItem = cartItemRepository.findById(cartOrderDto.getCartItemId())
-                    .orElseThrow(EntityNotFoundException::new);
+        // 전달받은 장바구니 주문 DTO 순서대로 주문 요청 데이터 생성
+        for (Long cartItemId : cartItemIds) {
+            // 조회해 둔 CartItem 엔티티 사용. 없으면 예외 발생
+            CartItem cartItem = cartItemMap.get(cartItemId);
+            if (cartItem == null) {
+                throw new EntityNotFoundException();
+            }
 
             // OrderDto 객체 생성 및 상품 ID와 수량 설정
             OrderDto orderDto = new OrderDto();
@@ -144,14 +166,8 @@ public class CartService {
         // OrderService의 orders 메서드를 호출하여 주문 생성 및 저장
         Long orderId = orderService.orders(orderDtoList, email);
 
-        // 주문 처리된 장바구니 항목 삭제
-        for (CartOrderDto cartOrderDto : cartOrderDtoList) {
-            // 장바구니 항목 ID를 통해 CartItem 엔티티를 조회. 없으면 예외 발생
-            CartItem cartItem = cartItemRepository.findById(cartOrderDto.getCartItemId())
-                    .orElseThrow(EntityNotFoundException::new);
-            // 조회된 장바구니 항목 삭제
-            cartItemRepository.delete(cartItem);
-        }
+        // 주문 처리된 장바구니 항목을 한 번의 delete 쿼리로 삭제
+        cartItemRepository.deleteAllByIdInBatch(cartItemIds);
 
         // 생성된 주문 ID 반환
         return orderId;
@@ -1,11 +1,23 @@
 package com.shop.service;
 
 import lombok.extern.java.Log; // lombok의 @Log 어노테이션을 import하여 Logger 객체를 자동으로 생성
+import org.springframework.beans.factory.annotation.Value; // application.properties의 fileShardLevels 값을 불러오기 위해 사용
 import org.springframework.stereotype.Service; // 스프링의 @Service 어노테이션을 import하여 서비스 클래스임을 명시
+import org.springframework.web.multipart.MultipartFile; // 업로드된 파일을 다루기 위한 MultipartFile
 
 import java.io.File; // 파일을 생성, 삭제, 존재 여부 확인하는 데 사용하는 클래스
-import java.io.FileOutputStream; // 파일에 바이트 데이터를 기록하는 데 사용하는 클래스
-import java.util.UUID; // 고유한 파일 이름을 생성하기 위해 사용하는 UUID 클래스
+import java.io.IOException;
+import java.io.InputStream; // 파일 내용을 스트림으로 읽기 위한 클래스
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files; // 디렉터리 생성, 스트림 복사
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream; // 읽으면서 해시 계산
+import java.security.MessageDigest; // 파일 내용 해시(SHA-256)로 파일 이름 생성
+import java.util.HexFormat;
+import java.util.Locale;
 
 /**
  * 📘 **FileService 클래스**
@@ -13,58 +25,158 @@ import java.util.UUID; // 고유한 파일 이름을 생성하기 위해 사용
  * 이 클래스는 파일 업로드와 파일 삭제 기능을 담당하는 **파일 서비스 클래스**입니다.
  * @Service 어노테이션이 붙어 있어 **스프링 컨테이너에 서비스로 등록**됩니다.
  * 파일 업로드와 삭제는 보통 **상품 이미지 파일 관리**에 사용됩니다.
+ *
+ * 파일은 **내용의 SHA-256 해시**를 이름으로 저장하므로, 같은 내용의 파일은 한 번만 저장됩니다.
+ * (여러 곳에서 함께 사용하는 파일을 언제 삭제할지는 호출하는 쪽에서 판단합니다. 예: ItemImgService)
+ *
+ * 한 디렉터리에 파일이 너무 많아지지 않도록, 파일 이름 앞부분 2글자씩을 하위 디렉터리로 사용합니다.
+ * (예: fileShardLevels=2이면 "9f64a747...jpg" → "9f/64/9f64a747...jpg")
  */
 @Service
 @Log // lombok의 @Log 어노테이션으로, log.info() 메서드를 사용할 수 있습니다.
 public class FileService {
 
     /**
-     * 📘 **파일 업로드 메서드**
+     * 📘 **하위 디렉터리 단계 수 (fileShardLevels)**
+     *
+     * 단계마다 16진수 2글자(256개 디렉터리)로 나눕니다. 0이면 업로드 경로에 바로 저장합니다.
+     */
+    private final int shardLevels;
+
+    public FileService(@Value("${fileShardLevels}") int shardLevels) {
+        this.shardLevels = shardLevels;
+    }
+
+    /**
+     * 📘 **파일 경로 생성 메서드**
+     *
+     * @param fileName 파일 이름 (createFileName()으로 만든 이름)
+     * @return 업로드 경로 기준 상대 경로 (예: "9f/64/9f64a747...jpg", URL과 파일 경로에 모두 사용)
+     *
+     * - 이름이 하위 디렉터리를 만들기에 너무 짧으면 이름을 그대로 반환합니다.
+     */
+    public String getFilePath(String fileName) {
+        if (fileName.length() <= shardLevels * 2) {
+            return fileName;
+        }
+
+        StringBuilder filePath = new StringBuilder();
+        for (int level = 0; level < shardLevels; level++) {
+            filePath.append(fileName, level * 2, level * 2 + 2).append('/');
+        }
+        return filePath.append(fileName).toString();
+    }
+
+    /**
+     * 📘 **파일 이름 생성 메서드 (내용 해시)**
      *
-     * @param uploadPath 업로드할 파일의 경로
      * @param originalFileName 업로드할 파일의 원래 파일명
-     * @param fileData 업로드할 파일의 바이트 데이터
-     * @return 업로드된 파일의 고유한 이름 (UUID + 확장자)
+     * @param inputStream 파일 내용 (호출한 쪽에서 닫아야 합니다)
+     * @return 파일 내용의 SHA-256 해시 + 확장자 (예: "9f64a747...a6d4a.jpg")
      * @throws Exception 입출력 예외가 발생할 수 있습니다.
      *
-     * 1️⃣ **UUID로 파일 이름 생성**
-     *  - 파일 이름의 중복을 방지하기 위해 **UUID**를 사용합니다.
-     *  - 예: "example.jpg" → "f81d4fae-7dec-11d0-a765-00a0c91e6bf6.jpg"
+     * - 고정 크기 버퍼로 읽으며 해시를 계산하므로 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+     * - 같은 내용의 파일은 항상 같은 이름이 되므로, 이미 저장된 파일은 다시 쓰지 않고 함께 사용합니다.
+     * - 이름이 바뀌면 내용도 바뀐 것이므로 이미지 URL을 브라우저에 오래 캐시해도 됩니다.
+     */
+    public String createFileName(String originalFileName, InputStream inputStream) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (DigestInputStream in = new DigestInputStream(inputStream, digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return createFileName(originalFileName, digest);
+    }
+
+    /**
+     * 📘 **파일 업로드 메서드 (업로드된 multipart 파일)**
+     *
+     * @param uploadPath 업로드할 파일의 경로
+     * @param fileName 저장할 파일 이름 (createFileName()으로 만든 내용 해시 이름, getFilePath() 경로에 저장)
+     * @param file 업로드된 파일 (multipart 요청의 파일 파트)
+     * @return 새로 저장했으면 true, 같은 이름(같은 내용)의 파일이 이미 있어 저장하지 않았으면 false
+     * @throws Exception 입출력 예외가 발생할 수 있습니다.
      *
-     * 2️⃣ **파일을 지정된 경로에 저장**
-     *  - `FileOutputStream`을 사용하여 **파일의 바이트 데이터를 실제 파일로 저장**합니다.
+     * 1️⃣ **이미 저장된 파일 확인**
+     *  - 같은 내용의 파일이 있으면 쓰지 않습니다. (중복 저장 방지)
+     *
+     * 2️⃣ **임시 파일로 이동 후 이름 변경**
+     *  - `MultipartFile.transferTo()`를 사용하여 파일 내용을 byte[]로 메모리에 올리지 않고 저장합니다.
+     *  - 임시 디스크에 저장된(spring.servlet.multipart.fileSizeThreshold 초과) 파일은 이동(rename)만 하고,
+     *    같은 파일 시스템이 아니면 고정 크기 버퍼로 복사합니다.
+     *  - 다 쓴 뒤에 최종 이름으로 바꾸므로, 다른 요청이 쓰는 중인 파일을 읽는 일이 없습니다.
      */
-    public String uploadFile(String uploadPath, String originalFileName, byte[] fileData) throws Exception {
+    public boolean uploadFileIfAbsent(String uploadPath, String fileName, MultipartFile file) throws Exception {
+        Path savedFile = Paths.get(uploadPath).resolve(getFilePath(fileName));
+        if (Files.exists(savedFile)) {
+            return false;
+        }
 
-        //  **경로가 없으면 디렉터리 생성**
-        File directory = new File(uploadPath);
-        if (!directory.exists()) {
-            directory.mkdirs(); // **디렉터리 생성**
+        // 임시 파일 이동 또는 버퍼 복사 (절대 경로로 전달해야 multipart 임시 디렉터리 기준으로 해석되지 않음)
+        Path directory = createDirectory(savedFile.getParent().toString());
+        Path tempFile = Files.createTempFile(directory, "upload", ".tmp");
+        try {
+            Files.delete(tempFile); // 컨테이너에 따라 transferTo()가 기존 파일을 덮어쓰지 못하므로 고유한 이름만 사용
+            file.transferTo(tempFile.toAbsolutePath().toFile());
+            moveTo(tempFile, savedFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
+        return true;
+    }
 
-        // 1️⃣ **파일 이름 생성**: UUID를 통해 고유한 파일 이름을 만듭니다.
-        UUID uuid = UUID.randomUUID(); // 랜덤한 UUID 생성 (예: f81d4fae-7dec-11d0-a765-00a0c91e6bf6)
+    /**
+     * 📘 **파일 업로드 메서드 (입력 스트림)**
+     *
+     * @param uploadPath 업로드할 파일의 경로
+     * @param originalFileName 업로드할 파일의 원래 파일명
+     * @param inputStream 저장할 파일 내용 (호출한 쪽에서 닫아야 합니다)
+     * @return 저장된 파일 이름 (내용 해시 + 확장자, 저장 경로는 getFilePath())
+     * @throws Exception 입출력 예외가 발생할 수 있습니다.
+     *
+     * - `Files.copy()`로 고정 크기 버퍼를 사용해 임시 파일에 쓰면서 해시를 계산합니다.
+     * - 같은 내용의 파일이 이미 있으면 임시 파일만 삭제합니다.
+     */
+    public String uploadFile(String uploadPath, String originalFileName, InputStream inputStream) throws Exception {
+        Path directory = createDirectory(uploadPath);
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
 
-        // 2️⃣ **파일 확장자 추출**: 원래 파일의 확장자를 추출합니다.
-        // 예: originalFileName이 "example.jpg"라면 extension = ".jpg"
-        String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        Path tempFile = Files.createTempFile(directory, "upload", ".tmp");
+        try {
+            Files.copy(new DigestInputStream(inputStream, digest), tempFile, StandardCopyOption.REPLACE_EXISTING);
 
-        // 3️⃣ **최종 파일 이름 생성**: UUID + 확장자 조합으로 파일 이름을 생성합니다.
-        // 예: "f81d4fae-7dec-11d0-a765-00a0c91e6bf6.jpg"
-        String savedFileName = uuid.toString() + extension;
+            String fileName = createFileName(originalFileName, digest);
+            Path savedFile = directory.resolve(getFilePath(fileName));
+            if (!Files.exists(savedFile)) {
+                Files.createDirectories(savedFile.getParent());
+                moveTo(tempFile, savedFile);
+            }
+            return fileName;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
 
-        // 4️⃣ **파일 전체 경로 생성**: 업로드 경로에 최종 파일 이름을 추가하여 전체 경로를 생성합니다.
-        // 예: "C:/shoppingmall_project/workspace/shop/item/f81d4fae-7dec-11d0-a765-00a0c91e6bf6.jpg"
-        String fileUploadFullUrl = uploadPath + "/" + savedFileName;
+    //  **경로가 없으면 디렉터리 생성**
+    private Path createDirectory(String uploadPath) throws IOException {
+        Path directory = Paths.get(uploadPath);
+        Files.createDirectories(directory);
+        return directory;
+    }
 
-        // 5️⃣ **파일에 바이트 데이터 쓰기**: FileOutputStream을 사용하여 실제 파일을 생성하고 데이터를 기록합니다.
-        FileOutputStream fos = new FileOutputStream(fileUploadFullUrl); // 파일 경로에 대한 출력 스트림 생성
-        fos.write(fileData); // 바이트 데이터를 파일에 씀
-        fos.close(); // 스트림 닫기 (리소스 반환)
+    // 해시 값(16진수) + 확장자로 파일 이름 생성 (예: "example.JPG" → "9f64a747...a6d4a.jpg")
+    private String createFileName(String originalFileName, MessageDigest digest) {
+        // 확장자는 소문자로 통일하여 같은 내용이면 같은 이름이 되도록 함
+        String extension = originalFileName.substring(originalFileName.lastIndexOf(".")).toLowerCase(Locale.ROOT);
+        return HexFormat.of().formatHex(digest.digest()) + extension;
+    }
 
-        // 6️⃣ **저장된 파일 이름 반환**: 업로드된 파일의 고유 이름을 반환합니다.
-        // 예: "f81d4fae-7dec-11d0-a765-00a0c91e6bf6.jpg"
-        return savedFileName;
+    // 최종 이름으로 한 번에 변경 (동시에 같은 내용을 저장해도 내용이 같으므로 덮어써도 무방)
+    private void moveTo(Path tempFile, Path savedFile) throws IOException {
+        try {
+            Files.move(tempFile, savedFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, savedFile, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     /**
@@ -2,13 +2,32 @@ package com.shop.service;
 
 import com.shop.entity.ItemImg; // ItemImg 엔티티 import
 import com.shop.repository.ItemImgRepository; // ItemImgRepository 리포지토리 import
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor; // Lombok의 @RequiredArgsConstructor import (final 필드를 포함한 생성자 자동 생성)
+import lombok.extern.java.Log; // 파일 삭제 실패 기록용 Logger
 import org.springframework.beans.factory.annotation.Value; // @Value 어노테이션 import (application.properties의 프로퍼티를 불러오기 위해 사용)
 import org.springframework.stereotype.Service; // @Service 어노테이션 import (서비스 클래스임을 명시)
+import org.springframework.transaction.annotation.Propagation; // 트랜잭션 전파 옵션
 import org.springframework.transaction.annotation.Transactional; // @Transactional import (트랜잭션 처리)
+import org.springframework.transaction.support.TransactionSynchronization; // 커밋/롤백 후 작업 등록
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils; // 빈 문자열 확인
 import org.springframework.web.multipart.MultipartFile; // 업로드된 파일을 다루기 위한 MultipartFile import
-import org.thymeleaf.util.StringUtils; // 빈 문자열 확인을 위해 사용되는 유틸리티 import
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService; // 이미지 처리 스레드 풀
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 📘 **ItemImgService 클래스**
@@ -21,13 +40,25 @@ import org.thymeleaf.util.StringUtils; // 빈 문자열 확인을 위해 사용
  * - **파일 경로와 URL 매핑**
  *
  * 🛠️ **주요 메서드**
- * - **saveItemImg()**: 이미지 파일을 업로드하고 ItemImg 정보를 데이터베이스에 저장합니다.
+ * - **stageItemImgs()**: 트랜잭션을 시작하기 전에 이미지 파일을 먼저 저장합니다.
+ * - **saveItemImg()/updateItemImg()**: 저장한 파일 정보로 ItemImg 정보를 데이터베이스에 저장합니다.
+ * - 이미지를 저장할 때 목록 화면용 썸네일(ThumbnailService)도 함께 만들어 URL을 저장합니다.
+ * - 대표 이미지가 저장/수정되면 상품(Item)의 repImgUrl과 썸네일 URL도 함께 갱신합니다.
+ *
+ * 🛠️ **이미지 파일 공유 (내용 해시 이름)**
+ * - 같은 내용의 이미지는 하나의 파일을 여러 ItemImg가 함께 사용합니다. (FileService.createFileName())
+ * - 파일의 참조 수는 같은 파일 이름(imgName)을 가진 ItemImg 행의 수와, 아직 커밋되지 않은 스테이징 수의 합입니다.
+ * - 파일은 참조 수가 0일 때만 삭제하며, 스테이징 기록과 삭제는 같은 잠금(pendingImgNames) 안에서 처리합니다.
+ * - 행 수 조회(DB)는 잠금 밖에서 하고, 그 사이 새 스테이징이 있었으면 다시 확인합니다. (커넥션 대기 중 잠금을 잡지 않기 위함)
  */
 @Service // 스프링 컨테이너에 서비스 빈으로 등록
+@Log
 @RequiredArgsConstructor // final 필드에 대해 생성자를 자동으로 생성
 @Transactional // **모든 메서드에 트랜잭션을 적용**하여 데이터 정합성을 보장
 public class ItemImgService {
 
+    public static final String ITEM_IMG_URL = "/images/item/"; // 상품 이미지 조회 경로 (itemImgLocation 기준 상대 경로가 뒤에 붙음)
+
     /**
      * 📘 **업로드 경로 (itemImgLocation)**
      *
@@ -55,99 +86,350 @@ public class ItemImgService {
     private final FileService fileService; // 파일 업로드 및 삭제 서비스 DI (의존성 주입)
 
     /**
-     * 📘 **상품 이미지 저장 메서드 (saveItemImg)**
+     * 📘 **ThumbnailService**
      *
-     * @param itemImg ItemImg 엔티티 - **상품 이미지 정보 객체**
-     * @param itemImgFile MultipartFile - **업로드된 이미지 파일**
-     * @throws Exception 업로드 및 파일 저장 중 예외가 발생할 수 있습니다.
+     * 저장한 이미지로 **장바구니/주문 내역(작은 썸네일), 메인 페이지(중간 썸네일)용 축소 이미지**를 만듭니다.
+     */
+    private final ThumbnailService thumbnailService;
+
+    /**
+     * 📘 **이미지 처리 스레드 풀**
+     *
+     * 상품 등록/수정 시 여러 이미지 파일을 동시에 저장하기 위한 고정 크기 스레드 풀입니다.
+     * 스레드 수는 `itemImgThreads` 프로퍼티로 지정하며, 동시에 여러 관리자가 저장해도 이 수를 넘지 않습니다.
+     */
+    @Value("${itemImgThreads}")
+    private int itemImgThreads;
+
+    private ExecutorService itemImgExecutor;
+
+    /**
+     * 📘 **커밋되지 않은 스테이징 파일 (파일 이름 → 스테이징 수)**
+     *
+     * 스테이징한 뒤 트랜잭션이 끝날 때까지 다른 요청이 같은 파일을 삭제하지 않도록 기록합니다.
+     * (파일 삭제 여부 판단의 잠금으로도 사용)
+     */
+    private final Map<String, Integer> pendingImgNames = new HashMap<>();
+
+    // 스테이징할 때마다 증가하는 번호: 잠금 밖에서 행 수를 세는 동안 새 스테이징이 있었는지 확인하는 데 사용 (pendingImgNames 잠금 안에서만 사용)
+    private long reserveSequence;
+
+    // 잠금 밖에서 센 행 수가 새 스테이징으로 무효가 되었을 때 다시 확인하는 최대 횟수 (넘으면 파일을 남겨 둠)
+    private static final int DELETE_CHECK_ATTEMPTS = 3;
+
+    @PostConstruct
+    public void initItemImgExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        itemImgExecutor = Executors.newFixedThreadPool(itemImgThreads, runnable -> {
+            Thread thread = new Thread(runnable, "item-img-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdownItemImgExecutor() {
+        itemImgExecutor.shutdown();
+    }
+
+    /**
+     * 📘 **상품 이미지 파일 스테이징 메서드 (stageItemImgs)**
+     *
+     * @param itemImgFileList 업로드된 이미지 파일 리스트
+     * @return 파일별로 저장된 파일 정보 (비어 있는 파일은 null)
+     * @throws Exception 파일 저장 중 예외가 발생할 수 있습니다. (이미 저장한 파일은 삭제 후 다시 던짐)
      *
      * 🛠️ **주요 동작**
-     * 1️⃣ **이미지 파일 업로드**
-     *   - 파일이 비어 있지 않다면, **파일을 서버에 업로드**합니다.
-     *   - 업로드한 파일의 이름은 **UUID + 확장자**로 자동 생성됩니다.
-     *   - 파일은 **itemImgLocation 경로에 저장**됩니다.
+     * - DB 커넥션과 트랜잭션을 잡기 전에 이미지 파일을 itemImgLocation 경로에 먼저 저장합니다.
+     * - 느린 디스크나 여러 장의 업로드가 트랜잭션 시간(커넥션 점유 시간)에 포함되지 않도록 하기 위함입니다.
+     * - 여러 파일은 이미지 처리 스레드 풀(itemImgThreads개)에서 동시에 저장하므로, 저장 시간은 가장 느린 파일 기준입니다.
+     * - 썸네일도 같은 작업에서 만들므로, 커밋되는 시점에는 썸네일 파일이 이미 존재합니다.
+     * - 같은 내용의 파일이 이미 있으면 다시 쓰지 않고 기존 파일(썸네일 포함)을 사용합니다.
+     * - 저장한 파일은 이후 saveItemImg()/updateItemImg()에서 DB에 반영하고, 커밋되지 않으면
+     *   deleteStagedFilesOnRollback()으로 등록한 정리 작업이 삭제합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS) // 파일 저장만 하므로 트랜잭션을 새로 시작하지 않음
+    public List<StagedItemImg> stageItemImgs(List<MultipartFile> itemImgFileList) throws Exception {
+        // 1️⃣ 파일마다 저장 작업을 이미지 처리 스레드 풀에 제출 (업로드하지 않은 칸은 null)
+        List<Future<StagedItemImg>> futures = new ArrayList<>();
+        for (MultipartFile itemImgFile : itemImgFileList) {
+            futures.add(itemImgFile.isEmpty() ? null : itemImgExecutor.submit(() -> stageItemImg(itemImgFile)));
+        }
+
+        // 2️⃣ 모든 작업이 끝날 때까지 기다리며 원래 순서대로 결과 수집 (대표 이미지 = 0번째 유지)
+        List<StagedItemImg> stagedItemImgs = new ArrayList<>();
+        Throwable failure = null;
+        for (Future<StagedItemImg> future : futures) {
+            try {
+                stagedItemImgs.add(future == null ? null : await(future));
+            } catch (ExecutionException e) {
+                stagedItemImgs.add(null);
+                failure = failure == null ? e.getCause() : failure; // 첫 번째 실패 원인만 전달
+            }
+        }
+
+        // 3️⃣ 하나라도 실패하면 저장된 파일을 모두 정리하고 실패 원인을 다시 던짐
+        if (failure != null) {
+            releaseStagedFiles(stagedItemImgs, true, failure); // 정리 중 예외는 실패 원인에 덧붙임
+            if (failure instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) failure;
+        }
+        return stagedItemImgs;
+    }
+
+    // 파일 하나 저장: 내용 해시로 이름을 정하고, 같은 파일이 없을 때만 임시 파일을 그대로 이동 (예: /images/item/9f/64/해시.jpg)
+    // 이어서 같은 디렉터리에 썸네일 생성 (만들지 못한 크기는 원본 URL 사용)
+    private StagedItemImg stageItemImg(MultipartFile itemImgFile) throws Exception {
+        String oriImgName = itemImgFile.getOriginalFilename(); // 예: "example.jpg"
+        String imgName;
+        try (InputStream inputStream = itemImgFile.getInputStream()) {
+            imgName = fileService.createFileName(oriImgName, inputStream);
+        }
+        String imgPath = fileService.getFilePath(imgName); // 예: "9f/64/해시.jpg"
+        String imgDirectory = imgPath.substring(0, imgPath.length() - imgName.length()); // 예: "9f/64/"
+        String imgUrl = ITEM_IMG_URL + imgPath;
+
+        // 파일을 확인/저장하기 전에 스테이징을 기록하여, 그 사이 다른 요청이 같은 파일을 삭제하지 않도록 함
+        reserveImgName(imgName);
+        boolean created = false;
+        try {
+            created = fileService.uploadFileIfAbsent(itemImgLocation, imgName, itemImgFile);
+
+            List<String> thumbnailNames = thumbnailService.createThumbnails(itemImgLocation + "/" + imgDirectory, imgName,
+                    ThumbnailService.SMALL_WIDTH, ThumbnailService.MEDIUM_WIDTH);
+            String smallImgUrl = thumbnailNames.get(0) == null ? imgUrl : ITEM_IMG_URL + imgDirectory + thumbnailNames.get(0);
+            String mediumImgUrl = thumbnailNames.get(1) == null ? imgUrl : ITEM_IMG_URL + imgDirectory + thumbnailNames.get(1);
+
+            return new StagedItemImg(oriImgName, imgName, imgUrl, smallImgUrl, mediumImgUrl, created);
+        } catch (Exception | Error e) {
+            releaseStagedFiles(List.of(new StagedItemImg(oriImgName, imgName, imgUrl, null, null, created)), true, e);
+            throw e;
+        }
+    }
+
+    // 작업이 끝날 때까지 대기 (파일 저장은 곧 끝나므로 인터럽트되어도 기다린 뒤 인터럽트 상태만 복원)
+    private static <T> T await(Future<T> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 📘 **스테이징 파일 정리 등록 메서드 (deleteStagedFilesOnRollback)**
+     *
+     * 현재 트랜잭션이 끝나면 스테이징 기록을 지우고, 커밋되지 않았으면(롤백, 커밋 실패)
+     * 이번에 새로 저장한 파일 중 다른 상품 이미지가 사용하지 않는 파일을 삭제합니다.
+     * 상품/상품 이미지 정보를 저장하는 트랜잭션 안에서 가장 먼저 호출합니다.
+     *
+     * @param stagedItemImgs stageItemImgs()로 저장한 파일 정보
+     */
+    public void deleteStagedFilesOnRollback(List<StagedItemImg> stagedItemImgs) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                releaseStagedFiles(stagedItemImgs, status != STATUS_COMMITTED, null);
+            }
+        });
+    }
+
+    /**
+     * 📘 **스테이징 파일 즉시 정리 메서드 (abandonStagedFiles)**
      *
-     * 2️⃣ **URL 생성**
-     *   - 업로드한 이미지의 URL 경로를 생성합니다.
-     *   - 예: /images/item/파일명.jpg
+     * 트랜잭션을 시작하지 못해 deleteStagedFilesOnRollback()을 등록하기 전에 실패한 경우 호출합니다.
+     * 스테이징 기록을 지우고, 이번에 새로 저장한 파일 중 다른 상품 이미지가 사용하지 않는 파일을 삭제합니다.
      *
-     * 3️⃣ **ItemImg 엔티티 정보 업데이트**
-     *   - ItemImg 엔티티에 **원래 파일명, 저장된 파일명, 이미지 URL**을 저장합니다.
+     * @param stagedItemImgs stageItemImgs()로 저장한 파일 정보
+     * @param failure 트랜잭션 시작 실패 원인 (정리 중 발생한 예외는 여기에 덧붙임)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS) // 트랜잭션을 시작하지 못한 상황에서 호출되므로 새로 시작하지 않음
+    public void abandonStagedFiles(List<StagedItemImg> stagedItemImgs, Throwable failure) {
+        releaseStagedFiles(stagedItemImgs, true, failure);
+    }
+
+    /**
+     * 📘 **상품 이미지 저장 메서드 (saveItemImg)**
+     *
+     * @param itemImg ItemImg 엔티티 - **상품 이미지 정보 객체**
+     * @param stagedItemImg 스테이징한 이미지 파일 정보 (업로드하지 않은 칸이면 null)
+     *
+     * 🛠️ **주요 동작**
+     * 1️⃣ **ItemImg 엔티티 정보 업데이트**
+     *   - ItemImg 엔티티에 **원래 파일명, 저장된 파일명, 이미지 URL, 썸네일 URL**을 저장합니다.
+     *   - 파일은 stageItemImgs()에서 이미 저장되었으므로 여기서는 파일 입출력이 없습니다.
      *
-     * 4️⃣ **데이터베이스에 이미지 정보 저장**
+     * 2️⃣ **데이터베이스에 이미지 정보 저장**
      *   - ItemImg 엔티티의 정보를 **데이터베이스에 저장**합니다.
      */
-    public void saveItemImg(ItemImg itemImg, MultipartFile itemImgFile) throws Exception {
+    public void saveItemImg(ItemImg itemImg, StagedItemImg stagedItemImg) {
 
-        // 1️⃣ **원래 파일명 추출**: 업로드된 파일의 원래 파일명을 가져옵니다.
-        String oriImgName = itemImgFile.getOriginalFilename(); // 예: "example.jpg"
+        // 1️⃣ **ItemImg 엔티티 정보 업데이트**: 업로드하지 않은 칸은 빈 문자열로 저장
+        if (stagedItemImg != null) {
+            itemImg.updateItemImg(stagedItemImg.oriImgName(), stagedItemImg.imgName(), stagedItemImg.imgUrl());
+            itemImg.updateThumbImgUrl(stagedItemImg.smallImgUrl(), stagedItemImg.mediumImgUrl());
+        } else {
+            itemImg.updateItemImg("", "", "");
+        }
 
-        // 2️⃣ **저장된 파일명 및 URL 초기화**:
-        // 파일이 없는 경우에는 빈 문자열로 초기화합니다.
-        String imgName = ""; // 업로드된 파일의 고유 이름 (UUID + 확장자)
-        String imgUrl = "";  // 브라우저에서 접근 가능한 URL 경로
-
-
-        // 3️⃣ **이미지 파일 업로드**
-        //
-        //  - 파일이 비어 있지 않은 경우, 파일을 업로드합니다.
-        //  - 업로드된 파일의 이름을 **UUID로 고유하게 생성**합니다.
-        //  - 물리적 파일 경로에 **itemImgLocation 경로 + UUID 파일명**으로 저장됩니다.
-        //  - 파일 저장 후, URL 경로를 **/images/item/파일명.jpg**로 설정합니다.
-
-        if(!StringUtils.isEmpty(oriImgName)) { // 파일이 존재할 경우에만 실행
-
-            // **파일 업로드**: FileService를 사용하여 파일을 업로드합니다.
-            // - itemImgLocation: 파일이 저장될 경로 (C:/shoppingmall_project/workspace/shop/item/)
-            // - oriImgName: 원래 파일명 (example.jpg)
-            // - itemImgFile.getBytes(): 파일 데이터 (byte[])
-            imgName = fileService.uploadFile(itemImgLocation, oriImgName, itemImgFile.getBytes());
-
-            // **URL 생성**: 브라우저가 이미지를 접근할 수 있는 URL 경로 생성
-            // 예: /images/item/uuid.jpg
-            imgUrl = "/images/item/" + imgName;
-        }
-
-        /**
-         * 4️⃣ **ItemImg 엔티티 정보 업데이트**
-         *
-         * - 상품 이미지 엔티티(ItemImg)에 **원래 파일명, 저장된 파일명, 이미지 URL**을 저장합니다.
-         * - ItemImg 엔티티의 **updateItemImg() 메서드**를 호출하여 엔티티의 상태를 업데이트합니다.
-         */
-        itemImg.updateItemImg(oriImgName, imgName, imgUrl);
-
-        /**
-         * 5️⃣ **데이터베이스에 상품 이미지 정보 저장**
-         *
-         * - itemImgRepository의 save() 메서드를 호출하여 **상품 이미지 정보를 데이터베이스에 저장**합니다.
-         */
+        // 2️⃣ **데이터베이스에 상품 이미지 정보 저장**
         itemImgRepository.save(itemImg); // 데이터베이스에 저장
+
+        // 3️⃣ **대표 이미지 URL 반영**: 대표 이미지인 경우 상품(Item)의 repImgUrl에도 저장하여, 목록 조회 시 item_img 조인 없이 사용합니다.
+        updateRepImgUrl(itemImg);
     }
 
     /**
      * 📘 **상품 이미지 수정 메서드 (updateItemImg)**
      *
      * @param itemImgId 수정할 이미지의 ID
-     * @param itemImgFile 업로드된 이미지 파일
-     * @throws Exception 예외가 발생할 수 있음
+     * @param stagedItemImg 스테이징한 새 이미지 파일 정보
+     *
+     * - 기존 이미지 파일은 커밋된 후, 다른 상품 이미지가 사용하지 않으면 삭제합니다. (롤백되면 기존 파일을 그대로 사용)
      */
-    public void updateItemImg(Long itemImgId, MultipartFile itemImgFile) throws Exception {
-        if (!itemImgFile.isEmpty()) { // 업로드된 파일이 있을 때만 동작
-            ItemImg savedItemImg = itemImgRepository.findById(itemImgId)
-                    .orElseThrow(EntityNotFoundException::new); // 이미지가 없을 경우 예외 발생
-
-            // 기존 이미지가 있으면 삭제
-            if (!org.springframework.util.StringUtils.hasText(savedItemImg.getImgName())) {
-                fileService.deleteFile(itemImgLocation + "/" + savedItemImg.getImgName()); // 기존 이미지 파일 삭제
+    public void updateItemImg(Long itemImgId, StagedItemImg stagedItemImg) {
+        ItemImg savedItemImg = itemImgRepository.findById(itemImgId)
+                .orElseThrow(EntityNotFoundException::new); // 이미지가 없을 경우 예외 발생
+
+        // 기존 이미지가 있으면 커밋 후 삭제 (썸네일 포함, 같은 파일을 사용하는 상품 이미지가 없을 때만)
+        String oldImgName = savedItemImg.getImgName();
+        String oldImgUrl = savedItemImg.getImgUrl();
+        String oldSmallImgUrl = savedItemImg.getSmallImgUrl();
+        String oldMediumImgUrl = savedItemImg.getMediumImgUrl();
+        if (StringUtils.hasText(oldImgName)) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        deleteFilesIfUnused(oldImgName, oldImgUrl, oldSmallImgUrl, oldMediumImgUrl); // 기존 이미지 파일 삭제
+                    } catch (RuntimeException e) {
+                        // 이미 커밋되었으므로 수정 결과에 영향을 주지 않도록 기록만 하고 파일은 남겨 둠
+                        log.warning("기존 상품 이미지 파일 정리 실패: " + oldImgName + " (" + e.getMessage() + ")");
+                    }
+                }
+            });
+        }
+
+        // ItemImg 엔티티에 새 이미지 정보 업데이트
+        savedItemImg.updateItemImg(stagedItemImg.oriImgName(), stagedItemImg.imgName(), stagedItemImg.imgUrl()); // 이미지 정보 업데이트
+        savedItemImg.updateThumbImgUrl(stagedItemImg.smallImgUrl(), stagedItemImg.mediumImgUrl()); // 썸네일 정보 업데이트
+        updateRepImgUrl(savedItemImg); // 대표 이미지라면 상품의 대표 이미지 URL도 변경
+    }
+
+    // 스테이징 기록
+    private void reserveImgName(String imgName) {
+        synchronized (pendingImgNames) {
+            pendingImgNames.merge(imgName, 1, Integer::sum);
+            reserveSequence++;
+        }
+    }
+
+    // 스테이징 기록을 지우고, delete가 true이면 새로 저장한 파일 중 사용하지 않는 파일 삭제
+    // (이미 있던 파일은 스테이징 전 상태로 두기 위해 삭제하지 않음)
+    // - 스테이징 기록은 한 번의 잠금 안에서 먼저 모두 지워, 파일 정리가 실패해도 기록이 남지 않도록 함
+    // - 파일 정리는 파일마다 따로 처리하며, 실패하면 기록하고 파일을 남겨 둠 (failure가 있으면 그 예외에 덧붙여 원래 예외를 유지)
+    private void releaseStagedFiles(List<StagedItemImg> stagedItemImgs, boolean delete, Throwable failure) {
+        synchronized (pendingImgNames) {
+            for (StagedItemImg stagedItemImg : stagedItemImgs) {
+                if (stagedItemImg != null) {
+                    pendingImgNames.computeIfPresent(stagedItemImg.imgName(), (imgName, count) -> count > 1 ? count - 1 : null);
+                }
             }
+        }
+        if (!delete) {
+            return;
+        }
 
-            // 새 이미지 파일 업로드
-            String oriImgName = itemImgFile.getOriginalFilename(); // 원본 파일명 가져오기
-            String imgName = fileService.uploadFile(itemImgLocation, oriImgName, itemImgFile.getBytes()); // 파일 업로드
-            String imgUrl = "/images/item/" + imgName; // 이미지 URL 생성
+        for (StagedItemImg stagedItemImg : stagedItemImgs) {
+            if (stagedItemImg == null || !stagedItemImg.created()) {
+                continue;
+            }
+            try {
+                deleteFilesIfUnused(stagedItemImg.imgName(),
+                        stagedItemImg.imgUrl(), stagedItemImg.smallImgUrl(), stagedItemImg.mediumImgUrl());
+            } catch (RuntimeException e) {
+                log.warning("스테이징한 상품 이미지 파일 정리 실패: " + stagedItemImg.imgName() + " (" + e.getMessage() + ")");
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+    }
+
+    // 스테이징 중이 아니고 같은 파일을 사용하는 상품 이미지(ItemImg)가 없을 때만 삭제
+    // - 행 수는 잠금 밖에서 세고, 삭제 직전에 잠금 안에서 그 사이 새 스테이징이 없었는지 확인
+    // - 새 스테이징이 있었으면(같은 파일을 사용해 커밋했을 수 있으므로) 다시 세고, 계속 겹치면 파일을 남겨 둠
+    private void deleteFilesIfUnused(String imgName, String... imgUrls) {
+        for (int attempt = 0; attempt < DELETE_CHECK_ATTEMPTS; attempt++) {
+            long sequence;
+            synchronized (pendingImgNames) {
+                if (pendingImgNames.containsKey(imgName)) {
+                    return;
+                }
+                sequence = reserveSequence;
+            }
 
-            // ItemImg 엔티티에 새 이미지 정보 업데이트
-            savedItemImg.updateItemImg(oriImgName, imgName, imgUrl); // 이미지 정보 업데이트
+            if (itemImgRepository.countByImgName(imgName) > 0) {
+                return;
+            }
+
+            synchronized (pendingImgNames) {
+                if (sequence == reserveSequence) {
+                    deleteFiles(imgUrls);
+                    return;
+                }
+            }
         }
+        log.warning("스테이징이 계속 겹쳐 상품 이미지 파일을 삭제하지 않음: " + imgName);
+    }
+
+    // 이미지 파일과 썸네일 파일을 URL로 찾아 삭제 (썸네일이 없어 원본 URL을 쓰는 경우는 한 번만 삭제)
+    private void deleteFiles(String... imgUrls) {
+        Set<String> deletedUrls = new HashSet<>();
+        for (String imgUrl : imgUrls) {
+            if (StringUtils.hasText(imgUrl) && imgUrl.startsWith(ITEM_IMG_URL) && deletedUrls.add(imgUrl)) {
+                deleteFile(imgUrl.substring(ITEM_IMG_URL.length()));
+            }
+        }
+    }
+
+    private void deleteFile(String imgPath) {
+        try {
+            fileService.deleteFile(itemImgLocation + "/" + imgPath);
+        } catch (Exception e) {
+            log.warning("상품 이미지 파일 삭제 실패: " + imgPath + " (" + e.getMessage() + ")");
+        }
+    }
+
+    // 대표 이미지(repImgYn = "Y")의 URL과 썸네일 URL을 상품 엔티티에 반영 (변경 감지로 함께 저장됨)
+    private void updateRepImgUrl(ItemImg itemImg) {
+        if ("Y".equals(itemImg.getRepImgYn()) && itemImg.getItem() != null) {
+            itemImg.getItem().updateRepImgUrl(itemImg.getImgUrl(), itemImg.getSmallImgUrl(), itemImg.getMediumImgUrl());
+        }
+    }
+
+    /**
+     * 📘 **스테이징한 이미지 파일 정보**
+     *
+     * @param oriImgName 원래 파일명
+     * @param imgName 저장된 파일명 (UUID + 확장자)
+     * @param imgUrl 이미지 조회 경로 (/images/item/하위 디렉터리/파일명)
+     * @param smallImgUrl 작은 썸네일 조회 경로 (썸네일이 없으면 imgUrl)
+     * @param mediumImgUrl 중간 썸네일 조회 경로 (썸네일이 없으면 imgUrl)
+     * @param created 이번에 새로 저장한 파일인지 여부 (같은 내용의 파일이 이미 있었으면 false)
+     */
+    public record StagedItemImg(String oriImgName, String imgName, String imgUrl, String smallImgUrl, String mediumImgUrl,
+                                boolean created) {
     }
 }
@@ -0,0 +1,132 @@
+package com.shop.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.shop.service.ItemImgService.ITEM_IMG_URL;
+
+/**
+ * 📘 **ItemImgShardMigration 클래스**
+ *
+ * itemImgLocation 경로에 바로 저장된 기존 상품 이미지 파일을 하위 디렉터리(FileService.getFilePath())로 옮기는 일회성 작업입니다.
+ * `itemImgShardMigration.enabled=true`로 기동하면 한 번 실행됩니다. (ItemImgShardMigrationConfig)
+ *
+ * 🛠️ **진행 순서**
+ * 1️⃣ item_img를 ID 순으로 BATCH_SIZE개씩 읽음
+ * 2️⃣ 원본, 썸네일 파일을 하위 디렉터리로 이동
+ * 3️⃣ item_img의 이미지 URL과, 대표 이미지이면 item의 대표 이미지 URL을 새 경로로 변경 (JDBC 배치)
+ * 4️⃣ 끝나면 2차 캐시와 메인 페이지 목록 캐시를 비움
+ *
+ * 파일을 먼저 옮기고 URL을 바꾸므로, 중간에 중단되어도 다시 실행하면 이어서 진행됩니다.
+ * 진행 중에 이전 URL로 요청해도 WebMvcConfig의 리졸버가 옮긴 파일을 찾아 응답합니다.
+ * 상품 이미지 등록/수정이 없는 시간에 실행합니다.
+ */
+@Log
+@Component
+@RequiredArgsConstructor
+public class ItemImgShardMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Value("${itemImgLocation}")
+    private String itemImgLocation;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final FileService fileService;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final MainItemCache mainItemCache;
+
+    /**
+     * 📘 **이동 실행 메서드 (migrate)**
+     *
+     * @return URL을 변경한 상품 이미지 수
+     */
+    public long migrate() throws IOException {
+        long migrated = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "select item_img_id, item_id, img_name, img_url, small_img_url, medium_img_url, rep_img_yn "
+                            + "from item_img where item_img_id > ? order by item_img_id limit ?", lastId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> itemImgUpdates = new ArrayList<>();
+            List<Object[]> itemUpdates = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                lastId = ((Number) row.get("item_img_id")).longValue();
+
+                String imgName = (String) row.get("img_name");
+                if (!StringUtils.hasText(imgName)) {
+                    continue; // 업로드하지 않은 칸
+                }
+
+                String imgPath = fileService.getFilePath(imgName);
+                String imgUrl = ITEM_IMG_URL + imgPath;
+                if (imgUrl.equals(row.get("img_url"))) {
+                    continue; // 이미 옮긴 이미지
+                }
+
+                // 원본, 썸네일 모두 원본과 같은 디렉터리로 이동
+                String directory = imgPath.substring(0, imgPath.length() - imgName.length());
+                moveFile((String) row.get("img_url"), directory);
+                String smallImgUrl = moveFile((String) row.get("small_img_url"), directory);
+                String mediumImgUrl = moveFile((String) row.get("medium_img_url"), directory);
+
+                itemImgUpdates.add(new Object[]{imgUrl, smallImgUrl, mediumImgUrl, lastId});
+                if ("Y".equals(row.get("rep_img_yn"))) {
+                    itemUpdates.add(new Object[]{imgUrl, smallImgUrl, mediumImgUrl, row.get("item_id")});
+                }
+            }
+
+            jdbcTemplate.batchUpdate("update item_img set img_url = ?, small_img_url = ?, medium_img_url = ? "
+                    + "where item_img_id = ?", itemImgUpdates);
+            jdbcTemplate.batchUpdate("update item set rep_img_url = ?, rep_small_img_url = ?, rep_medium_img_url = ? "
+                    + "where item_id = ?", itemUpdates);
+            migrated += itemImgUpdates.size();
+        }
+
+        // JDBC로 변경했으므로 이전 URL이 남아 있는 캐시 정리
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        mainItemCache.invalidateAll();
+
+        log.info("상품 이미지 " + migrated + "건을 하위 디렉터리로 이동");
+        return migrated;
+    }
+
+    // URL의 파일을 하위 디렉터리로 옮기고 새 URL 반환 (이미 옮겼거나 없는 파일이면 URL만 변경)
+    private String moveFile(String imgUrl, String directory) throws IOException {
+        if (!StringUtils.hasText(imgUrl) || !imgUrl.startsWith(ITEM_IMG_URL)) {
+            return imgUrl;
+        }
+
+        String fileName = imgUrl.substring(imgUrl.lastIndexOf('/') + 1);
+        Path source = Paths.get(itemImgLocation, imgUrl.substring(ITEM_IMG_URL.length()));
+        Path target = Paths.get(itemImgLocation, directory + fileName);
+        if (!source.equals(target) && Files.exists(source)) {
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return ITEM_IMG_URL + directory + fileName;
+    }
+}
@@ -1,25 +1,41 @@
 package com.shop.service;
 
+import com.shop.dto.AdminItemDto;
 import com.shop.dto.ItemFormDto; // 상품 등록 폼 데이터를 담는 DTO
 import com.shop.dto.ItemImgDto; // 상품 이미지 정보를 담는 DTO
 import com.shop.dto.ItemSearchDto;
 import com.shop.dto.MainItemDto;
 import com.shop.entity.Item; // Item 엔티티 (상품 엔티티)
 import com.shop.entity.ItemImg; // ItemImg 엔티티 (상품 이미지 엔티티)
+import com.shop.repository.ItemCountCache; // 상품 목록 전체 개수 캐시
 import com.shop.repository.ItemImgRepository; // 상품 이미지 리포지토리
+import com.shop.repository.ItemNmIndex; // 상품명 검색용 메모리 역색인
 import com.shop.repository.ItemRepository; // 상품 리포지토리
+import com.shop.service.ItemImgService.StagedItemImg; // 스테이징한 상품 이미지 파일 정보
 import jakarta.persistence.EntityNotFoundException; // 엔티티를 찾을 수 없는 경우 발생하는 예외
 import lombok.RequiredArgsConstructor; // final 필드에 대한 생성자를 자동으로 생성
 import org.springframework.beans.factory.annotation.Value; // application.properties에 정의된 값을 주입받기 위해 사용
+import org.springframework.boot.context.event.ApplicationReadyEvent; // 애플리케이션 기동 완료 이벤트
+import org.springframework.context.event.EventListener; // 이벤트 리스너 어노테이션
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service; // 스프링의 서비스 어노테이션
+import org.springframework.transaction.annotation.Propagation; // 트랜잭션 전파 옵션
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 관리
+import org.springframework.transaction.support.TransactionSynchronization; // 트랜잭션 커밋 후 콜백
+import org.springframework.transaction.support.TransactionSynchronizationManager; // 현재 트랜잭션 동기화 관리
+import org.springframework.transaction.support.TransactionTemplate; // 코드 블록 단위 트랜잭션
 import org.springframework.util.StringUtils; // 문자열 유틸리티
 import org.springframework.web.multipart.MultipartFile; // 파일 업로드 시 사용하는 클래스
 
+import java.time.LocalDateTime;
 import java.util.ArrayList; // 리스트 생성
+import java.util.HashMap;
 import java.util.List; // 리스트 인터페이스
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * 📘 **ItemService 클래스**
@@ -37,55 +53,127 @@ public class ItemService {
     private final ItemImgService itemImgService; // 상품 이미지 저장 관련 서비스
     private final ItemImgRepository itemImgRepository; // 상품 이미지 정보를 다루는 리포지토리
     private final FileService fileService; // 파일 관련 서비스 (파일 삭제, 업로드)
+    private final ItemNmIndex itemNmIndex; // 상품명 검색용 메모리 역색인
+    private final ItemCountCache itemCountCache; // 상품 목록 전체 개수 캐시
+    private final MainItemCache mainItemCache; // 메인 페이지 상품 목록 캐시
+    private final TransactionTemplate transactionTemplate; // 파일 저장 후 상품 정보만 짧은 트랜잭션으로 저장
 
-
+    /**
+     * 📘 **상품명 색인 초기화 메서드 (initItemNmIndex)**
+     *
+     * 애플리케이션 기동이 끝나면 DB의 전체 상품명을 읽어 ItemNmIndex를 구성합니다.
+     * 초기화 전에는 상품명 검색이 기존 like 조건으로 처리됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initItemNmIndex() {
+        Map<Long, String> itemNms = new HashMap<>();
+        for (Object[] row : itemRepository.findAllIdAndItemNm()) {
+            itemNms.put((Long) row[0], (String) row[1]);
+        }
+        itemNmIndex.rebuild(itemNms);
+    }
 
     /**
      * 📘 **상품 저장 메서드 (saveItem)**
      *
+     * 1️⃣ 트랜잭션 밖에서 이미지 파일을 먼저 저장(스테이징)하고,
+     * 2️⃣ 짧은 트랜잭션에서 Item/ItemImg 정보만 저장합니다. 커밋되지 않으면 스테이징한 파일은 삭제됩니다.
+     * (호출한 쪽에 이미 트랜잭션이 있으면 그 트랜잭션에 참여합니다.)
+     *
      * @param itemFormDto 상품 등록 폼에서 전달된 상품 정보
      * @param itemImgFileList 업로드된 이미지 파일 리스트
      * @return 저장된 상품의 ID
      */
+    @Transactional(propagation = Propagation.SUPPORTS) // 파일 저장 중에는 트랜잭션(DB 커넥션)을 잡지 않음
     public Long saveItem(ItemFormDto itemFormDto, List<MultipartFile> itemImgFileList) throws Exception {
-        // 상품 정보 저장
-        Item item = itemFormDto.createItem(); // 상품 정보 생성
-        itemRepository.save(item); // 상품 정보 저장
-
-        // 상품 이미지 정보 저장
-        for (int i = 0; i < itemImgFileList.size(); i++) {
-            ItemImg itemImg = new ItemImg(); // 상품 이미지 엔티티 생성
-            itemImg.setItem(item); // 상품과 연관 관계 설정
-            itemImg.setRepImgYn(i == 0 ? "Y" : "N"); // 첫 번째 이미지를 대표 이미지로 설정
-            itemImgService.saveItemImg(itemImg, itemImgFileList.get(i)); // 이미지 파일 저장
+        // 1️⃣ 이미지 파일 저장 (트랜잭션 밖)
+        List<StagedItemImg> stagedItemImgs = itemImgService.stageItemImgs(itemImgFileList);
+
+        // 2️⃣ 상품, 상품 이미지 정보 저장 (트랜잭션 안, 파일 입출력 없음)
+        return executeWithStagedFiles(stagedItemImgs, () -> {
+            // 상품 정보 저장
+            Item item = itemFormDto.createItem(); // 상품 정보 생성
+            itemRepository.save(item); // 상품 정보 저장
+
+            // 상품 이미지 정보 저장
+            for (int i = 0; i < stagedItemImgs.size(); i++) {
+                ItemImg itemImg = new ItemImg(); // 상품 이미지 엔티티 생성
+                itemImg.setItem(item); // 상품과 연관 관계 설정
+                itemImg.setRepImgYn(i == 0 ? "Y" : "N"); // 첫 번째 이미지를 대표 이미지로 설정
+                itemImgService.saveItemImg(itemImg, stagedItemImgs.get(i)); // 이미지 정보 저장
+            }
+
+            putItemNmIndexAfterCommit(item.getId(), item.getItemNm()); // 커밋되면 상품명 색인 등록
+            itemCountCache.invalidateAll(); // 상품 목록 개수가 바뀌었으므로 캐시 무효화
+            mainItemCache.invalidateAll(); // 새 상품(대표 이미지 포함)이 메인 페이지에 바로 보이도록 캐시 무효화
+
+            return item.getId(); // 상품 ID 반환
+        });
+    }
+
+    // 스테이징한 파일 정보로 상품/상품 이미지를 저장하는 트랜잭션 실행
+    // - 트랜잭션 안에서 가장 먼저 정리 작업을 등록하여, 커밋되지 않으면 스테이징한 파일을 삭제
+    // - 트랜잭션을 시작하지 못해(예: 커넥션 풀 고갈) 정리 작업을 등록하기 전에 실패하면 여기서 바로 정리
+    private Long executeWithStagedFiles(List<StagedItemImg> stagedItemImgs, Supplier<Long> action) {
+        AtomicBoolean cleanupRegistered = new AtomicBoolean();
+        try {
+            return transactionTemplate.execute(status -> {
+                itemImgService.deleteStagedFilesOnRollback(stagedItemImgs); // 커밋되지 않으면 스테이징한 파일 삭제
+                cleanupRegistered.set(true);
+                return action.get();
+            });
+        } catch (RuntimeException | Error e) {
+            if (!cleanupRegistered.get()) {
+                itemImgService.abandonStagedFiles(stagedItemImgs, e);
+            }
+            throw e;
         }
+    }
 
-        return item.getId(); // 상품 ID 반환
+    // 상품명 색인 갱신 (트랜잭션 중이면 커밋된 뒤에 반영, 롤백되면 반영하지 않음)
+    private void putItemNmIndexAfterCommit(Long itemId, String itemNm) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    itemNmIndex.put(itemId, itemNm);
+                }
+            });
+        } else {
+            itemNmIndex.put(itemId, itemNm);
+        }
     }
 
     /**
      * 📘 **상품 상세 정보 조회 메서드 (getItemDtl)**
      *
+     * 관리자 상품 수정 페이지와 상품 상세 페이지에서 사용하며, 상품과 상품 이미지를 한 번의 쿼리로 조회합니다.
+     *
      * @param itemId 조회할 상품의 ID
      * @return 상품의 상세 정보 (ItemFormDto 객체)
      */
     @Transactional(readOnly = true)
     public ItemFormDto getItemDtl(Long itemId) {
-        // 상품 이미지 조회
-        List<ItemImg> itemImgList = itemImgRepository.findByItemIdOrderByIdAsc(itemId);
+        // 상품 이미지, 상품, 상품 상세 설명을 한 번의 쿼리로 조회
+        List<Object[]> rows = itemImgRepository.findItemDtlByItemId(itemId);
         List<ItemImgDto> itemImgDtoList = new ArrayList<>(); // 이미지 정보를 담을 리스트 생성
 
-        for (ItemImg itemImg : itemImgList) {
-            ItemImgDto itemImgDto = ItemImgDto.of(itemImg); // 엔티티를 DTO로 변환
+        for (Object[] row : rows) {
+            ItemImgDto itemImgDto = ItemImgDto.of((ItemImg) row[0]); // 엔티티를 DTO로 변환
             itemImgDtoList.add(itemImgDto); // 리스트에 추가
         }
 
-        // 상품 정보 조회
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(EntityNotFoundException::new); // 상품이 없을 경우 예외 발생
-
-        // 상품 정보를 DTO로 변환
-        ItemFormDto itemFormDto = ItemFormDto.of(item);
+        // 상품 정보: fetch join으로 함께 조회된 상품 사용 (이미지가 없는 상품만 따로 조회)
+        ItemFormDto itemFormDto;
+        if (rows.isEmpty()) {
+            Item item = itemRepository.findById(itemId)
+                    .orElseThrow(EntityNotFoundException::new); // 상품이 없을 경우 예외 발생
+            itemFormDto = ItemFormDto.of(item);
+        } else {
+            Item item = ((ItemImg) rows.get(0)[0]).getItem();
+            itemFormDto = ItemFormDto.of(item, (String) rows.get(0)[1]); // 지연 로딩 없이 조회한 상세 설명 사용
+        }
         itemFormDto.setItemImgDtoList(itemImgDtoList); // 상품 이미지 리스트 추가
 
         return itemFormDto; // 상품 상세 정보 반환
@@ -93,28 +181,64 @@ public class ItemService {
 
 
 
+    /**
+     * 상품 상세 페이지의 마지막 수정 시간 조회
+     * - 상품과 상품 이미지의 수정 시간 중 가장 늦은 시간을 반환합니다.
+     * - 상세 페이지 조건부 요청(ETag/Last-Modified)에서 이미지 목록 조회와 화면 렌더링 전에 변경 여부를 판단할 때 사용합니다.
+     *
+     * @param itemId 조회할 상품의 ID
+     * @return 마지막 수정 시간 (상품이 없거나 수정 시간이 기록되지 않았으면 null)
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime getItemDtlLastModified(Long itemId) {
+        List<Object[]> rows = itemRepository.findItemDtlUpdateTimes(itemId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        LocalDateTime itemUpdateTime = (LocalDateTime) rows.get(0)[0];
+        LocalDateTime imgUpdateTime = (LocalDateTime) rows.get(0)[1];
+        if (itemUpdateTime == null || imgUpdateTime == null) {
+            return itemUpdateTime != null ? itemUpdateTime : imgUpdateTime;
+        }
+        return itemUpdateTime.isAfter(imgUpdateTime) ? itemUpdateTime : imgUpdateTime;
+    }
+
     /**
      * 📘 **상품 정보 수정 메서드 (updateItem)**
      *
+     * 상품 저장과 같이 새 이미지 파일은 트랜잭션 밖에서 먼저 저장하고, 교체된 기존 파일은 커밋 후 삭제합니다.
+     *
      * @param itemFormDto **수정할 상품 정보 DTO**
      * @param itemImgFileList **수정할 이미지 파일 리스트**
      * @return **수정된 상품의 ID**
      */
+    @Transactional(propagation = Propagation.SUPPORTS) // 파일 저장 중에는 트랜잭션(DB 커넥션)을 잡지 않음
     public Long updateItem(ItemFormDto itemFormDto, List<MultipartFile> itemImgFileList) throws Exception {
 
-        // 1️⃣ **상품 정보 수정**
-        Item item = itemRepository.findById(itemFormDto.getId())
-                .orElseThrow(EntityNotFoundException::new); // 상품 조회, 없으면 예외 발생
-        item.updateItem(itemFormDto); // 상품 정보 업데이트
+        // 1️⃣ **새 이미지 파일 저장** (트랜잭션 밖, 업로드하지 않은 칸은 null)
+        List<StagedItemImg> stagedItemImgs = itemImgService.stageItemImgs(itemImgFileList);
 
-        // 2️⃣ **상품 이미지 수정**
-        List<Long> itemImgIds = itemFormDto.getItemImgIds(); // 이미지 ID 리스트 가져오기
-        for (int i = 0; i < itemImgFileList.size(); i++) {
-            itemImgService.updateItemImg(itemImgIds.get(i), itemImgFileList.get(i)); // 이미지 수정
-        }
+        // 2️⃣ **상품, 상품 이미지 정보 수정** (트랜잭션 안, 파일 입출력 없음)
+        return executeWithStagedFiles(stagedItemImgs, () -> {
+            Item item = itemRepository.findById(itemFormDto.getId())
+                    .orElseThrow(EntityNotFoundException::new); // 상품 조회, 없으면 예외 발생
+            item.updateItem(itemFormDto); // 상품 정보 업데이트
+
+            List<Long> itemImgIds = itemFormDto.getItemImgIds(); // 이미지 ID 리스트 가져오기
+            for (int i = 0; i < stagedItemImgs.size(); i++) {
+                if (stagedItemImgs.get(i) != null) {
+                    itemImgService.updateItemImg(itemImgIds.get(i), stagedItemImgs.get(i)); // 이미지 수정
+                }
+            }
 
-        // 3️⃣ **수정된 상품의 ID 반환**
-        return item.getId();
+            putItemNmIndexAfterCommit(item.getId(), item.getItemNm()); // 커밋되면 변경된 상품명으로 색인 갱신
+            itemCountCache.invalidateAll(); // 상품명/판매 상태 변경으로 검색 결과 개수가 바뀔 수 있으므로 캐시 무효화
+            mainItemCache.invalidateAll(); // 상품 정보, 대표 이미지 변경이 메인 페이지에 바로 보이도록 캐시 무효화
+
+            // 3️⃣ **수정된 상품의 ID 반환**
+            return item.getId();
+        });
     }
 
     /**
@@ -122,10 +246,10 @@ public class ItemService {
      *
      * @param itemSearchDto 상품 검색 조건을 담은 DTO
      * @param pageable 페이징 정보를 담은 객체 (페이지 번호, 크기 등)
-     * @return 조건에 맞는 상품 데이터를 페이징 처리하여 반환 (Page<Item> 객체)
+     * @return 조건에 맞는 상품 데이터를 페이징 처리하여 반환 (Page<AdminItemDto> 객체)
      */
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션으로 설정 (성능 최적화)
-    public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
+    public Page<AdminItemDto> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
         // ItemRepository에서 Querydsl로 구현된 getAdminItemPage 메서드를 호출
         return itemRepository.getAdminItemPage(itemSearchDto, pageable);
     }
@@ -135,4 +259,28 @@ public class ItemService {
         return itemRepository.getMainItemPage(itemSearchDto, pageable);
     }
 
+    /**
+     * 📘 **관리자 상품 목록 커서 조회 메서드 (getAdminItemSlice)**
+     *
+     * @param itemSearchDto 상품 검색 조건을 담은 DTO
+     * @param lastItemId 이전 페이지의 마지막 상품 ID (첫 페이지는 null)
+     * @param pageSize 페이지 크기
+     * @return 조건에 맞는 상품 데이터와 다음 페이지 존재 여부 (Slice<AdminItemDto> 객체)
+     */
+    @Transactional(readOnly = true)
+    public Slice<AdminItemDto> getAdminItemSlice(ItemSearchDto itemSearchDto, Long lastItemId, int pageSize) {
+        return itemRepository.getAdminItemSlice(itemSearchDto, lastItemId, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Long lastItemId, int pageSize){
+        return itemRepository.getMainItemSlice(itemSearchDto, lastItemId, pageSize);
+    }
+
+    // 전체 개수(count 쿼리) 없이 메인 페이지 상품 목록 조회
+    @Transactional(readOnly = true)
+    public Slice<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Pageable pageable){
+        return itemRepository.getMainItemSlice(itemSearchDto, pageable);
+    }
+
 }
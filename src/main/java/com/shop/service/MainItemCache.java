@@ -0,0 +1,64 @@
+package com.shop.service;
+
+import com.shop.repository.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 📘 **MainItemCache 클래스**
+ *
+ * 메인 페이지(MainController.getMainPage)의 상품 목록 조회 결과(Page/Slice&lt;MainItemDto&gt;)를
+ * 검색어와 페이지 번호별로 보관하는 캐시입니다.
+ *
+ * 🛠️ **주요 역할**
+ * - 로그인하지 않은 방문자가 같은 검색어의 앞쪽 페이지를 반복 조회할 때 목록/count 쿼리를 다시 실행하지 않습니다.
+ * - 앞쪽 mainItemCachePages개 페이지만 보관하고, 각 항목은 mainItemCacheTtl(초) 동안 유지됩니다.
+ * - 상품/상품 이미지 등록, 수정 시(ItemService) 전체를 비웁니다. 커밋 직후에 한 번 더 비워
+ *   커밋 전의 데이터로 조회한 결과가 남지 않도록 합니다.
+ * - 상품 데이터만 보관하므로 로그인 사용자별로 달라지는 헤더 등 화면 렌더링에는 영향을 주지 않습니다.
+ */
+@Component
+public class MainItemCache {
+
+    // 검색어 조합이 많아져도 메모리를 과하게 쓰지 않도록 보관 개수 제한
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final int maxCachedPages;
+
+    private final TtlCache<Object> pages;
+
+    public MainItemCache(@Value("${mainItemCacheTtl:30}") long ttlSeconds,
+                         @Value("${mainItemCachePages:5}") int maxCachedPages) {
+        this.maxCachedPages = maxCachedPages;
+        this.pages = new TtlCache<>(ttlSeconds, MAX_ENTRIES);
+    }
+
+    /**
+     * 캐시된 목록을 반환하고, 없거나 만료되었으면 조회하여 저장합니다.
+     *
+     * @param searchQuery 검색어 (null이면 빈 검색어)
+     * @param page 페이지 번호 (mainItemCachePages 이상이면 캐시하지 않고 바로 조회)
+     * @param countless count 없는 조회(Slice) 여부 (Page와 구분하여 저장)
+     * @param loader 실제 조회
+     * @return 상품 목록
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String searchQuery, int page, boolean countless, Supplier<T> loader) {
+        if (page >= maxCachedPages) {
+            return loader.get();
+        }
+
+        String key = (countless ? "slice:" : "page:") + page + ":" + (searchQuery == null ? "" : searchQuery);
+        return (T) pages.get(key, loader::get);
+    }
+
+    /**
+     * 캐시된 모든 목록을 비웁니다. (상품/상품 이미지 등록, 수정 시 호출)
+     * 트랜잭션 중이면 커밋 직후에 한 번 더 비웁니다.
+     */
+    public void invalidateAll() {
+        pages.invalidateAll();
+    }
+}
@@ -0,0 +1,122 @@
+package com.shop.service;
+
+import com.shop.constant.Role;
+import com.shop.entity.Member;
+import com.shop.repository.MemberRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📘 **MemberIdCache 클래스**
+ *
+ * 로그인한 회원의 이메일(Principal 이름)로 회원 ID와 권한을 찾아 보관하는 캐시입니다.
+ *
+ * 🛠️ **주요 역할**
+ * - 장바구니/주문 요청마다 `memberRepository.findByEmail()`로 member 테이블을 조회하던 것을 대신합니다.
+ * - 로그인 시(MemberService.loadUserByUsername) 채워지고, 회원 저장 시 해당 이메일 항목을 비웁니다.
+ * - 최대 memberIdCacheSize개까지 보관하며, 넘치면 가장 오래 사용하지 않은 항목부터 제거합니다(LRU).
+ * - 트랜잭션 안에서 조회한 값은 커밋된 뒤에만 저장하여, 롤백된 회원 정보가 캐시에 남지 않도록 합니다.
+ */
+@Component
+public class MemberIdCache {
+
+    private final MemberRepository memberRepository;
+
+    private final Map<String, CachedMember> members;
+
+    public MemberIdCache(MemberRepository memberRepository,
+                         @Value("${memberIdCacheSize:10000}") int maxEntries) {
+        this.memberRepository = memberRepository;
+        // accessOrder = true: 조회할 때마다 순서를 갱신하여 가장 오래 사용하지 않은 항목이 먼저 제거됨
+        this.members = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedMember> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 이메일에 해당하는 회원 ID를 반환합니다. 캐시에 없으면 DB에서 조회하여 저장합니다.
+     *
+     * @param email 회원 이메일
+     * @return 회원 ID
+     * @throws EntityNotFoundException 해당 이메일의 회원이 없는 경우
+     */
+    public Long getMemberId(String email) {
+        return get(email).memberId();
+    }
+
+    /**
+     * 이메일에 해당하는 회원 권한을 반환합니다. 캐시에 없으면 DB에서 조회하여 저장합니다.
+     *
+     * @param email 회원 이메일
+     * @return 회원 권한
+     * @throws EntityNotFoundException 해당 이메일의 회원이 없는 경우
+     */
+    public Role getRole(String email) {
+        return get(email).role();
+    }
+
+    /**
+     * 조회한 회원 정보를 캐시에 저장합니다. (로그인 시 호출)
+     *
+     * @param member 회원 엔티티
+     */
+    public void put(Member member) {
+        CachedMember cachedMember = new CachedMember(member.getId(), member.getRole());
+        String email = member.getEmail();
+
+        // 트랜잭션 중이면 커밋된 뒤에 저장 (롤백되면 저장하지 않음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(email, cachedMember);
+                }
+            });
+        } else {
+            store(email, cachedMember);
+        }
+    }
+
+    /**
+     * 캐시에서 이메일 항목을 제거합니다. (회원 정보 저장/변경 시 호출)
+     *
+     * @param email 회원 이메일
+     */
+    public synchronized void evict(String email) {
+        members.remove(email);
+    }
+
+    private CachedMember get(String email) {
+        CachedMember cachedMember;
+        synchronized (this) {
+            cachedMember = members.get(email);
+        }
+        if (cachedMember != null) {
+            return cachedMember;
+        }
+
+        Member member = memberRepository.findByEmail(email);
+        if (member == null) {
+            throw new EntityNotFoundException("회원을 찾을 수 없습니다. (" + email + ")");
+        }
+        put(member);
+        return new CachedMember(member.getId(), member.getRole());
+    }
+
+    private synchronized void store(String email, CachedMember cachedMember) {
+        members.put(email, cachedMember);
+    }
+
+    // 캐시된 회원 ID와 권한
+    private record CachedMember(Long memberId, Role role) {
+    }
+}
@@ -21,6 +21,8 @@ public class MemberService implements UserDetailsService {
 
     private final MemberRepository memberRepository; // 📘 의존성 주입된 MemberRepository (데이터베이스에 접근하는 인터페이스)
 
+    private final MemberIdCache memberIdCache; // 📘 이메일 -> 회원 ID/권한 캐시 (장바구니/주문 요청마다 회원 조회를 생략)
+
     /**
      * 📘 회원을 저장하는 메서드
      *
@@ -31,6 +33,9 @@ public class MemberService implements UserDetailsService {
         // 📘 중복된 회원이 있는지 확인 (중복 회원 검증 로직 호출)
         validateDuplicateMember(member);
 
+        // 📘 이전에 캐시된 같은 이메일의 정보가 있으면 제거
+        memberIdCache.evict(member.getEmail());
+
         // 📘 회원을 데이터베이스에 저장 (JPA의 save() 메서드 사용)
         return memberRepository.save(member);
     }
@@ -68,6 +73,9 @@ public class MemberService implements UserDetailsService {
             throw new UsernameNotFoundException(email);
         }
 
+        // 로그인한 회원의 ID와 권한을 캐시 (이후 요청에서 이메일로 회원을 다시 조회하지 않음)
+        memberIdCache.put(member);
+
         return User.builder()
                 .username(member.getEmail()) // 사용자 이름으로 이메일을 설정합니다.
                 .password(member.getPassword()) // 사용자 비밀번호를 설정합니다.
@@ -4,7 +4,7 @@ import com.shop.dto.OrderDto;
 import com.shop.dto.OrderHistDto;
 import com.shop.dto.OrderItemDto;
 import com.shop.entity.*;
-import com.shop.repository.ItemImgRepository;
+import com.shop.exception.OutOfStockException;
 import com.shop.repository.ItemRepository;
 import com.shop.repository.MemberRepository;
 import com.shop.repository.OrderRepository;
@@ -15,10 +15,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service // 비즈니스 로직을 처리하는 서비스 클래스임을 나타내는 어노테이션
 @Transactional // 트랜잭션 처리를 위해 사용됨. 메서드 실행 중 예외 발생 시 롤백 처리됨
@@ -28,16 +29,24 @@ public class OrderService {
     private final ItemRepository itemRepository; // 상품 정보를 처리하는 레포지토리
     private final MemberRepository memberRepository; // 회원 정보를 처리하는 레포지토리
     private final OrderRepository orderRepository; // 주문 정보를 처리하는 레포지토리
-    private final ItemImgRepository itemImgRepository; // 상품 이미지 정보를 처리하는 레포지토리
+    private final MemberIdCache memberIdCache; // 이메일 -> 회원 ID 캐시
 
     // **주문 생성 메서드**
     public Long order(OrderDto orderDto, String email) {
+        return order(orderDto, memberIdCache.getMemberId(email));
+    }
+
+    // **주문 생성 메서드 (회원 ID로 주문)**
+    public Long order(OrderDto orderDto, Long memberId) {
+        // 재고 차감 (재고가 부족하면 OutOfStockException 발생)
+        removeStock(orderDto.getItemId(), orderDto.getCount());
+
         // 상품 ID를 기반으로 상품 엔티티 조회. 없을 경우 예외 발생
         Item item = itemRepository.findById(orderDto.getItemId())
                 .orElseThrow(EntityNotFoundException::new);
 
-        // 이메일을 통해 회원 엔티티를 조회
-        Member member = memberRepository.findByEmail(email);
+        // 회원 ID로 회원 엔티티 참조 (프록시만 생성하므로 조회 쿼리가 실행되지 않음)
+        Member member = memberRepository.getReferenceById(memberId);
 
         // 주문 항목 리스트 생성
         List<OrderItem> orderItemList = new ArrayList<>();
@@ -63,6 +72,11 @@ public class OrderService {
         List<Order> orders = orderRepository.findOrders(email, pageable);
         Long totalCount = orderRepository.countOrder(email); // 해당 이메일의 전체 주문 건수 조회
 
+        // 페이지에 포함된 주문들의 주문 상품과 상품을 한 번에 로딩 (주문/주문 상품마다 추가 쿼리가 나가지 않도록)
+        if (!orders.isEmpty()) {
+            orderRepository.findOrdersWithItems(orders.stream().map(Order::getId).toList());
+        }
+
         List<OrderHistDto> orderHistDtos = new ArrayList<>(); // 주문 내역을 저장할 DTO 리스트
 
         for (Order order : orders) {
@@ -71,10 +85,8 @@ public class OrderService {
             List<OrderItem> orderItems = order.getOrderItems(); // 주문 항목 리스트 조회
 
             for (OrderItem orderItem : orderItems) {
-                // 대표 이미지("Y")인 상품 이미지 조회
-                ItemImg itemImg = itemImgRepository.findByItemIdAndRepImgYn(orderItem.getItem().getId(), "Y");
-                // 주문 항목 정보를 DTO로 변환 (상품 정보와 이미지 URL 설정)
-                OrderItemDto orderItemDto = new OrderItemDto(orderItem, itemImg.getImgUrl());
+                // 주문 항목 정보를 DTO로 변환 (상품에 저장된 대표 이미지의 작은 썸네일 URL 사용)
+                OrderItemDto orderItemDto = new OrderItemDto(orderItem, orderItem.getItem().getRepSmallImgUrl());
                 // 주문 내역 DTO에 주문 항목 DTO 추가
                 orderHistDto.addOrderItemDto(orderItemDto);
             }
@@ -90,24 +102,17 @@ public class OrderService {
     public boolean validateOrder(Long orderId, String email) {
         // 📝 [메서드 설명]
         // - 해당 주문이 로그인한 사용자의 주문인지 검증하는 메서드
-        // - 읽기 전용 트랜잭션으로 설정하여 데이터 수정 없이 성능 최적화
-
-        // 현재 로그인한 사용자의 이메일로 회원 엔티티 조회
-        Member curMember = memberRepository.findByEmail(email);
+        // - 이메일은 캐시된 회원 ID로 바꾸어 비교하므로 회원 조회 쿼리가 실행되지 않음
+        return validateOrder(orderId, memberIdCache.getMemberId(email));
+    }
 
+    @Transactional(readOnly = true)
+    public boolean validateOrder(Long orderId, Long memberId) {
         // 주문 ID로 주문 엔티티 조회. 없을 경우 예외 발생
         Order order = orderRepository.findById(orderId).orElseThrow(EntityNotFoundException::new);
 
-        // 조회된 주문 엔티티에 저장된 회원 정보
-        Member savedMember = order.getMember();
-
-        // 현재 로그인한 사용자의 이메일과 주문 생성자의 이메일 비교
-        if (!StringUtils.equals(curMember.getEmail(), savedMember.getEmail())) {
-            // 이메일이 다르면 해당 주문을 취소할 권한이 없으므로 false 반환
-            return false;
-        }
-        // 이메일이 같으면 true 반환
-        return true;
+        // 주문한 회원 ID와 로그인한 회원 ID 비교 (회원 프록시의 ID만 사용하므로 회원을 조회하지 않음)
+        return memberId.equals(order.getMember().getId());
     }
 
     public void cancelOrder(Long orderId) {
@@ -117,21 +122,55 @@ public class OrderService {
         // 주문 ID로 주문 엔티티 조회. 없을 경우 예외 발생
         Order order = orderRepository.findById(orderId).orElseThrow(EntityNotFoundException::new);
 
-        // 주문 취소 메서드 호출 (Order 엔티티의 상태를 'CANCEL'로 변경하고 주문 항목의 재고 복구)
+        // 주문 취소 메서드 호출 (Order 엔티티의 상태를 'CANCEL'로 변경)
         order.cancelOrder();
+
+        // 주문 항목의 수량만큼 재고 복구 (주문 상태 변경은 update 쿼리 실행 전에 함께 반영됨)
+        List<OrderItem> orderItems = new ArrayList<>(order.getOrderItems());
+        for (OrderItem orderItem : orderItems) {
+            itemRepository.addStock(orderItem.getItem().getId(), orderItem.getCount());
+        }
+    }
+
+    // 조건부 update 쿼리로 재고 차감, 변경된 행이 없으면 상품 존재 여부를 확인하고 재고 부족 예외 발생
+    private void removeStock(Long itemId, int count) {
+        if (itemRepository.removeStock(itemId, count) == 0) {
+            Item item = itemRepository.findById(itemId).orElseThrow(EntityNotFoundException::new);
+            throw new OutOfStockException("상품의 재고가 없습니다. (현재 재고 수량: " + item.getStockNumber() + ")");
+        }
     }
 
     public Long orders(List<OrderDto> orderDtoList, String email){
+        return orders(orderDtoList, memberIdCache.getMemberId(email));
+    }
+
+    // 여러 상품을 한 번에 주문 (회원 ID로 주문)
+    public Long orders(List<OrderDto> orderDtoList, Long memberId){
+
+        // 주문할 모든 상품의 재고를 먼저 차감 (하나라도 부족하면 예외가 발생하여 전체 롤백)
+        for(OrderDto orderDto : orderDtoList){
+            removeStock(orderDto.getItemId(), orderDto.getCount());
+        }
+
+        // 회원 ID로 회원 엔티티 참조 (프록시만 생성하므로 조회 쿼리가 실행되지 않음)
+        Member member = memberRepository.getReferenceById(memberId);
+        // 주문할 상품들을 한 번의 쿼리(in 조건)로 조회하여 상품 ID별로 보관
+        List<Long> itemIds = orderDtoList.stream().map(OrderDto::getItemId).toList();
+        Map<Long, Item> itemMap = new HashMap<>();
+        for (Item item : itemRepository.findAllById(itemIds)) {
+            itemMap.put(item.getId(), item);
+        }
 
-        // 이메일을 통해 회원 정보를 조회
-        Member member = memberRepository.findByEmail(email);
         // 주문 항목 리스트를 저장할 객체 생성
         List<OrderItem> orderItemList = new ArrayList<>();
 
         // 전달된 주문 DTO 리스트를 반복하며 주문 항목 생성
         for(OrderDto orderDto : orderDtoList){
-            // 상품 ID로 상품 엔티티를 조회. 없을 경우 예외 발생
-            Item item = itemRepository.findById(orderDto.getItemId()).orElseThrow(EntityNotFoundException::new);
+            // 조회해 둔 상품 엔티티 사용. 없을 경우 예외 발생
+            Item item = itemMap.get(orderDto.getItemId());
+            if (item == null) {
+                throw new EntityNotFoundException();
+            }
 
             // 주문 항목 객체 생성 (상품 정보와 수량 포함)
             OrderItem orderItem = OrderItem.createOrderItem(item,orderDto.getCount());
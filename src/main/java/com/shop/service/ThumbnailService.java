@@ -0,0 +1,175 @@
+package com.shop.service;
+
+import lombok.extern.java.Log;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 📘 **ThumbnailService 클래스**
+ *
+ * 업로드된 상품 이미지로 목록 화면용 축소 이미지(썸네일)를 만드는 서비스입니다. (javax.imageio만 사용)
+ *
+ * 🛠️ **주요 역할**
+ * - 원본 이미지를 지정한 가로 크기(SMALL_WIDTH, MEDIUM_WIDTH)로 비율을 유지하며 축소하여 같은 경로에 저장합니다.
+ * - 저장 파일 이름: 원본 이름(확장자 포함) + "_w가로크기" (예: 해시.jpg_w200.jpg), 투명도가 있는 이미지는 png, 나머지는 jpg
+ *   원본 확장자를 이름에 남기므로 같은 내용의 a.jpg와 a.jpeg는 썸네일도 따로 만들어 원본별로 삭제할 수 있습니다.
+ * - 원본이 지정한 크기보다 작거나 읽을 수 없는 이미지이면 썸네일을 만들지 않습니다. (호출한 쪽에서 원본 사용)
+ * - 원본 이름이 내용 해시이므로, 같은 이름의 썸네일이 이미 있으면 다시 만들지 않고 사용합니다.
+ *
+ * 큰 원본은 디코딩 단계에서 가로 크기의 2배 정도로 줄여 읽으므로(subsampling), 원본 해상도와 관계없이 메모리 사용량이 제한됩니다.
+ */
+@Service
+@Log
+public class ThumbnailService {
+
+    public static final int SMALL_WIDTH = 200; // 장바구니, 주문 내역 (100px 표시, 고해상도 화면 고려)
+
+    public static final int MEDIUM_WIDTH = 400; // 메인 페이지 상품 카드
+
+    /**
+     * 📘 **썸네일 생성 메서드**
+     *
+     * @param uploadPath 원본 이미지가 저장된 경로 (썸네일도 같은 경로에 저장)
+     * @param imgName 원본 이미지 파일 이름
+     * @param widths 만들 썸네일 가로 크기 목록
+     * @return 가로 크기 순서대로 저장된 썸네일 파일 이름 (만들지 않은 크기는 null)
+     */
+    public List<String> createThumbnails(String uploadPath, String imgName, int... widths) {
+        List<String> thumbnailNames = new ArrayList<>();
+        List<String> createdNames = new ArrayList<>(); // 이번에 새로 만든 썸네일 (실패 시 정리 대상)
+        Path directory = Paths.get(uploadPath);
+
+        try {
+            // 같은 원본으로 이미 만든 썸네일이 모두 있으면 이미지를 읽지 않음
+            for (int width : widths) {
+                thumbnailNames.add(findThumbnail(directory, imgName, width));
+            }
+            if (!thumbnailNames.contains(null)) {
+                return thumbnailNames;
+            }
+            thumbnailNames.clear();
+
+            int maxWidth = 0;
+            for (int width : widths) {
+                maxWidth = Math.max(maxWidth, width);
+            }
+
+            BufferedImage source = read(directory.resolve(imgName), maxWidth);
+            boolean alpha = source != null && source.getColorModel().hasAlpha();
+
+            for (int width : widths) {
+                if (source == null || source.getWidth() <= width) {
+                    thumbnailNames.add(null); // 읽을 수 없거나 원본이 더 작으면 원본 사용
+                    continue;
+                }
+
+                String thumbnailName = imgName + "_w" + width + (alpha ? ".png" : ".jpg");
+                if (!Files.exists(directory.resolve(thumbnailName))) {
+                    write(resize(source, width, alpha), alpha ? "png" : "jpg", directory, thumbnailName);
+                    createdNames.add(thumbnailName);
+                }
+                thumbnailNames.add(thumbnailName);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 썸네일은 없어도 원본으로 표시할 수 있으므로 기록만 하고, 이미 만든 썸네일은 정리
+            log.warning("썸네일 생성 실패: " + imgName + " (" + e.getMessage() + ")");
+            deleteThumbnails(directory, createdNames);
+            thumbnailNames.clear();
+            for (int ignored : widths) {
+                thumbnailNames.add(null);
+            }
+        }
+        return thumbnailNames;
+    }
+
+    // 이미 만든 썸네일 이름 (없으면 null)
+    private String findThumbnail(Path directory, String imgName, int width) {
+        for (String extension : new String[]{".jpg", ".png"}) {
+            String thumbnailName = imgName + "_w" + width + extension;
+            if (Files.exists(directory.resolve(thumbnailName))) {
+                return thumbnailName;
+            }
+        }
+        return null;
+    }
+
+    // 임시 파일에 쓴 뒤 최종 이름으로 변경 (다른 요청이 쓰는 중인 썸네일을 읽지 않도록)
+    private void write(BufferedImage image, String format, Path directory, String thumbnailName) throws IOException {
+        Path tempFile = Files.createTempFile(directory, "thumbnail", ".tmp");
+        try {
+            ImageIO.write(image, format, tempFile.toFile());
+            try {
+                Files.move(tempFile, directory.resolve(thumbnailName), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, directory.resolve(thumbnailName), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // 이미지 읽기: 가로가 maxWidth의 2배보다 크면 줄여서 디코딩 (읽을 수 없는 형식이면 null)
+    private BufferedImage read(Path file, int maxWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, reader.getWidth(0) / (maxWidth * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 비율을 유지하여 가로 width로 축소
+    private BufferedImage resize(BufferedImage source, int width, boolean alpha) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void deleteThumbnails(Path directory, List<String> thumbnailNames) {
+        for (String thumbnailName : thumbnailNames) {
+            if (thumbnailName != null) {
+                try {
+                    Files.deleteIfExists(directory.resolve(thumbnailName));
+                } catch (IOException e) {
+                    log.warning("썸네일 삭제 실패: " + thumbnailName);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.shop.benchmark;
+
+import com.shop.constant.ItemSellStatus;
+import com.shop.dto.ItemFormDto;
+import com.shop.dto.ItemImgDto;
+import com.shop.entity.Item;
+import com.shop.entity.ItemImg;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📘 **ItemMapperBenchmark 클래스**
+ *
+ * 상품 상세 조회(ItemService.getItemDtl)의 DTO 변환 비용을 비교하는 JMH 벤치마크입니다.
+ *
+ * 🛠️ **비교 대상**
+ * - **modelMapper**: 이전 방식 (ModelMapper로 Item -> ItemFormDto, ItemImg -> ItemImgDto 변환)
+ * - **handWritten**: 현재 방식 (ItemFormDto.of, ItemImgDto.of에서 필드를 직접 복사)
+ *
+ * DB 조회는 제외하고, 상품 1개 + 이미지 5개를 변환하는 부분만 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemMapperBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private Item item;
+
+    private List<ItemImg> itemImgList;
+
+    @Setup
+    public void setUp() {
+        item = new Item();
+        item.setId(1L);
+        item.setItemNm("테스트 상품");
+        item.setPrice(10000);
+        item.setStockNumber(100);
+        item.setItemDetail("테스트 상품 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+
+        itemImgList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ItemImg itemImg = new ItemImg();
+            itemImg.setId((long) i);
+            itemImg.setImgName("image" + i + ".jpg");
+            itemImg.setOriImgName("original" + i + ".jpg");
+            itemImg.setImgUrl("/images/item/image" + i + ".jpg");
+            itemImg.setRepImgYn(i == 0 ? "Y" : "N");
+            itemImg.setItem(item);
+            itemImgList.add(itemImg);
+        }
+    }
+
+    @Benchmark
+    public ItemFormDto modelMapper() {
+        List<ItemImgDto> itemImgDtoList = new ArrayList<>();
+        for (ItemImg itemImg : itemImgList) {
+            itemImgDtoList.add(modelMapper.map(itemImg, ItemImgDto.class));
+        }
+        ItemFormDto itemFormDto = modelMapper.map(item, ItemFormDto.class);
+        itemFormDto.setItemImgDtoList(itemImgDtoList);
+        return itemFormDto;
+    }
+
+    @Benchmark
+    public ItemFormDto handWritten() {
+        List<ItemImgDto> itemImgDtoList = new ArrayList<>();
+        for (ItemImg itemImg : itemImgList) {
+            itemImgDtoList.add(ItemImgDto.of(itemImg));
+        }
+        ItemFormDto itemFormDto = ItemFormDto.of(item);
+        itemFormDto.setItemImgDtoList(itemImgDtoList);
+        return itemFormDto;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ItemMapperBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
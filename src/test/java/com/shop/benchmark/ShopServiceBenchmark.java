@@ -0,0 +1,182 @@
+package com.shop.benchmark;
+
+import com.shop.ShopApplication;
+import com.shop.dto.CartItemDto;
+import com.shop.dto.DataGeneratorDto;
+import com.shop.dto.ItemFormDto;
+import com.shop.dto.ItemSearchDto;
+import com.shop.dto.MainItemDto;
+import com.shop.dto.OrderDto;
+import com.shop.dto.OrderHistDto;
+import com.shop.repository.DataGenerator;
+import com.shop.service.CartService;
+import com.shop.service.ItemService;
+import com.shop.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📘 **ShopServiceBenchmark 클래스**
+ *
+ * 실제 서비스/JPA 계층을 내장 H2 위에 띄우고 주요 화면의 처리량을 측정하는 JMH 벤치마크입니다.
+ * 초기 데이터는 DataGenerator로 생성합니다. (상품 5만 건, 회원 5천 명, 주문 약 7만 건)
+ *
+ * 🛠️ **측정 대상**
+ * - **mainPage**: 메인 페이지 상품 목록 (검색어 포함, ItemRepositoryCustomImpl.getMainItemPage)
+ * - **itemDetail**: 상품 상세 조회 (ItemService.getItemDtl)
+ * - **addCart**: 장바구니 담기 (CartService.addCart)
+ * - **checkout**: 여러 상품 주문 (OrderService.orders)
+ * - **orderHistory**: 주문 내역 조회 (OrderService.getOrderList)
+ *
+ * 🛠️ **실행 방법**
+ * - `mvn -Pjmh test` (기본으로 `-prof gc`를 붙여 할당량도 함께 출력)
+ * - `mvn -Pjmh test -Djmh.args="ShopServiceBenchmark.mainPage -prof gc"` 처럼 대상과 옵션 지정 가능
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShopServiceBenchmark {
+
+    private static final int ITEM_COUNT = 50_000; // 상품 수
+    private static final int MEMBER_COUNT = 5_000; // 회원 수
+    private static final int ORDERS_PER_MEMBER = 10; // 일반 회원의 평균 주문 수 (1%는 500건)
+    private static final int ITEMS_PER_ORDER = 3; // 벤치마크 주문당 상품 수
+
+    // 메인 페이지 검색어 (빈 검색어 포함)
+    private static final String[] SEARCH_QUERIES = {"", "", "셔츠", "청바지", "12", "린넨 자켓"};
+
+    private ConfigurableApplicationContext context;
+
+    private ItemService itemService;
+    private CartService cartService;
+    private OrderService orderService;
+
+    private List<Long> itemIds;
+    private List<String> emails;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // devtools 재시작 기능은 벤치마크 JVM에서 필요 없으므로 비활성화
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        context = new SpringApplicationBuilder(ShopApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.properties.hibernate.show_sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql=warn"
+                );
+
+        itemService = context.getBean(ItemService.class);
+        cartService = context.getBean(CartService.class);
+        orderService = context.getBean(OrderService.class);
+
+        seed();
+
+        // 시드 데이터로 상품명 색인 다시 구성
+        itemService.initItemNmIndex();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 상품/이미지/회원/장바구니/주문 초기 데이터를 JDBC 배치로 저장 (DataGenerator)
+    private void seed() throws Exception {
+        DataGeneratorDto dataGeneratorDto = new DataGeneratorDto();
+        dataGeneratorDto.setItems(ITEM_COUNT);
+        dataGeneratorDto.setMembers(MEMBER_COUNT);
+        dataGeneratorDto.setOrdersPerMember(ORDERS_PER_MEMBER);
+        context.getBean(DataGenerator.class).generate(dataGeneratorDto);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // 벤치마크 중 재고가 떨어지지 않도록 충분히 설정
+        jdbcTemplate.update("update item set stock_number = ?", Integer.MAX_VALUE / 2);
+
+        itemIds = jdbcTemplate.queryForList("select item_id from item", Long.class);
+        emails = jdbcTemplate.queryForList("select email from member", String.class);
+    }
+
+    private Long randomItemId() {
+        return itemIds.get(ThreadLocalRandom.current().nextInt(itemIds.size()));
+    }
+
+    private String randomEmail() {
+        return emails.get(ThreadLocalRandom.current().nextInt(emails.size()));
+    }
+
+    private List<OrderDto> randomOrderDtos() {
+        List<OrderDto> orderDtoList = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            OrderDto orderDto = new OrderDto();
+            orderDto.setItemId(randomItemId());
+            orderDto.setCount(1);
+            orderDtoList.add(orderDto);
+        }
+        return orderDtoList;
+    }
+
+    @Benchmark
+    public Page<MainItemDto> mainPage() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ItemSearchDto itemSearchDto = new ItemSearchDto();
+        itemSearchDto.setSearchQuery(SEARCH_QUERIES[random.nextInt(SEARCH_QUERIES.length)]);
+        return itemService.getMainItemPage(itemSearchDto, PageRequest.of(random.nextInt(5), 6));
+    }
+
+    @Benchmark
+    public ItemFormDto itemDetail() {
+        return itemService.getItemDtl(randomItemId());
+    }
+
+    @Benchmark
+    public Long addCart() {
+        CartItemDto cartItemDto = new CartItemDto();
+        cartItemDto.setItemId(randomItemId());
+        cartItemDto.setCount(1);
+        return cartService.addCart(cartItemDto, randomEmail());
+    }
+
+    @Benchmark
+    public Long checkout() {
+        return orderService.orders(randomOrderDtos(), randomEmail());
+    }
+
+    @Benchmark
+    public Page<OrderHistDto> orderHistory() {
+        return orderService.getOrderList(randomEmail(), PageRequest.of(0, 4));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ShopServiceBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
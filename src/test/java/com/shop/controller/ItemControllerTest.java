@@ -1,18 +1,34 @@
 package com.shop.controller;
 
+import com.shop.constant.ItemSellStatus;
+import com.shop.dto.ItemFormDto;
+import com.shop.service.ItemService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -24,6 +40,9 @@ class ItemControllerTest {
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    ItemService itemService;
+
     @Test
     @DisplayName("상품 등록 페이지 권한 테스트")
     @WithMockUser(username = "admin", roles = "ADMIN") // 📘 가짜 사용자(admin)와 ROLE_ADMIN 권한을 부여
@@ -67,5 +86,93 @@ class ItemControllerTest {
         // - **403 Forbidden**은 접근 권한이 없는 사용자가 페이지에 접근하려고 할 때 발생하는 상태 코드입니다.
     }
 
+    @Test
+    @DisplayName("상품 관리 페이지 커서 조회 테스트")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    public void itemManageCursorTest() throws Exception {
+        mockMvc.perform(
+                        get("/admin/items").param("cursor", "") // 📘 빈 cursor는 커서 기반 첫 페이지
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("items"));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("상품 관리 페이지 번호 페이지에서 커서 기반 다음 페이지 이동 테스트")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    public void itemManageNextCursorTest() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            saveItem(); // 📘 한 페이지(3개)보다 많은 상품
+        }
+
+        // 📘 번호 페이지(offset)의 Next 버튼은 page 번호 대신 다음 페이지 cursor로 이동
+        mockMvc.perform(get("/admin/items"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("nextCursor", notNullValue()))
+                .andExpect(content().string(containsString("data-cursor=")));
+    }
+
+    private Long saveItem() throws Exception {
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setItemNm("상세 페이지 테스트 상품");
+        itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+        itemFormDto.setItemDetail("상세 페이지 테스트 상품 상세 설명");
+        itemFormDto.setPrice(10000);
+        itemFormDto.setStockNumber(100);
+
+        List<MultipartFile> multipartFileList = List.of(
+                new MockMultipartFile("itemImgFile", "image.jpg", "image/jpg", new byte[]{1, 2, 3, 4}));
+        return itemService.saveItem(itemFormDto, multipartFileList);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("상품 상세 페이지 조건부 요청 304 응답 테스트")
+    public void itemDtlNotModifiedTest() throws Exception {
+        Long itemId = saveItem();
+        MockHttpSession session = new MockHttpSession();
+
+        // 📘 첫 요청: 화면과 함께 ETag, Last-Modified, Cache-Control 헤더를 응답
+        MvcResult result = mockMvc.perform(get("/item/" + itemId).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 📘 같은 세션에서 ETag로 재요청하면 본문 없이 304 응답
+        mockMvc.perform(get("/item/" + itemId).session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 📘 다른 세션(다른 CSRF 토큰)이면 같은 ETag를 보내도 화면을 다시 렌더링
+        mockMvc.perform(get("/item/" + itemId).session(new MockHttpSession()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("상품 수정 후 상품 상세 페이지 ETag 변경 테스트")
+    public void itemDtlModifiedTest() throws Exception {
+        Long itemId = saveItem();
+        MockHttpSession session = new MockHttpSession();
+
+        String etag = mockMvc.perform(get("/item/" + itemId).session(session))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 📘 상품 수정으로 수정 시간이 바뀌면 이전 ETag로 요청해도 새 화면을 응답
+        Thread.sleep(10);
+        ItemFormDto itemFormDto = itemService.getItemDtl(itemId);
+        itemFormDto.setItemNm("수정된 상품");
+        itemService.updateItem(itemFormDto, List.of());
+
+        mockMvc.perform(get("/item/" + itemId).session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
 
-}
\ No newline at end of file
+}
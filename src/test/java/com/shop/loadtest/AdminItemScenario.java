@@ -0,0 +1,43 @@
+package com.shop.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 📘 **AdminItemScenario 클래스**
+ *
+ * 관리자의 상품 등록 흐름입니다. 한 번 실행할 때마다 이미지 여러 장을 포함한
+ * `POST /admin/item/new` (multipart/form-data) 요청을 보냅니다.
+ * 등록에 성공하면 메인 페이지로 리다이렉트되고, 실패하면 상품 등록 폼이 다시 표시됩니다.
+ */
+class AdminItemScenario implements Scenario {
+
+    private final ShopClient client;
+
+    private final LoadTestStats stats;
+
+    private final List<byte[]> images;
+
+    AdminItemScenario(ShopClient client, LoadTestStats stats, List<byte[]> images) {
+        this.client = client;
+        this.stats = stats;
+        this.images = images;
+    }
+
+    @Override
+    public void runOnce() throws InterruptedException {
+        int number = ThreadLocalRandom.current().nextInt(1_000_000);
+
+        Map<String, String> fields = Map.of(
+                "itemNm", "부하 테스트 상품 " + number,
+                "price", String.valueOf(1_000 + number % 100_000),
+                "stockNumber", "100",
+                "itemDetail", "부하 테스트로 등록한 상품입니다. " + number,
+                "itemSellStatus", "SELL");
+
+        stats.get("adminItemSave").call(
+                () -> client.postMultipart("/admin/item/new", fields, "itemImgFile", images),
+                response -> client.isRedirectTo(response, "/")); // 등록 성공 시 메인 페이지로 리다이렉트
+    }
+}
@@ -0,0 +1,82 @@
+package com.shop.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 📘 **EndpointStats 클래스**
+ *
+ * 부하 테스트 중 엔드포인트 하나의 응답 시간(마이크로초)과 실패 횟수를 기록합니다.
+ * 여러 클라이언트 스레드가 동시에 기록하므로 HdrHistogram의 Recorder를 사용합니다.
+ */
+class EndpointStats {
+
+    private final String name;
+
+    private final Recorder recorder = new Recorder(3); // 유효 숫자 3자리 (범위는 자동 확장)
+
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * 📘 요청을 실행하고 응답 시간과 성공 여부를 기록합니다.
+     *
+     * @param request 실행할 요청
+     * @param success 응답이 성공인지 판단하는 조건
+     * @return 응답 (I/O 오류가 나면 null)
+     */
+    HttpResponse<String> call(Request request, Predicate<HttpResponse<String>> success) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = request.send();
+            record((System.nanoTime() - start) / 1_000, success.test(response));
+            return response;
+        } catch (IOException e) {
+            record((System.nanoTime() - start) / 1_000, false);
+            return null;
+        }
+    }
+
+    void record(long latencyMicros, boolean success) {
+        recorder.recordValue(latencyMicros);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 📘 지금까지 기록한 값을 버립니다. (워밍업 구간 종료 시 호출)
+     */
+    void reset() {
+        recorder.getIntervalHistogram();
+        errors.reset();
+    }
+
+    /**
+     * 📘 마지막 reset 이후 기록한 응답 시간 분포를 반환합니다.
+     */
+    Histogram snapshot() {
+        return recorder.getIntervalHistogram();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    @FunctionalInterface
+    interface Request {
+        HttpResponse<String> send() throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,85 @@
+package com.shop.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📘 **LoadTestStats 클래스**
+ *
+ * 엔드포인트별 EndpointStats를 모아 두고, 측정이 끝나면 처리량과 응답 시간 백분위수를 출력합니다.
+ *
+ * 🛠️ **결과**
+ * - 콘솔: 엔드포인트별 요청 수, 실패 수, 초당 처리량, p50/p90/p99/p99.9/max (ms)
+ * - 파일: `{출력 디렉터리}/{엔드포인트}.hgrm` (HdrHistogram 백분위 분포, 빌드 간 비교용)
+ */
+class LoadTestStats {
+
+    private final Map<String, EndpointStats> endpoints = new LinkedHashMap<>(); // 출력 순서 유지
+
+    LoadTestStats(String... names) {
+        for (String name : names) {
+            endpoints.put(name, new EndpointStats(name));
+        }
+    }
+
+    EndpointStats get(String name) {
+        EndpointStats stats = endpoints.get(name);
+        if (stats == null) {
+            throw new IllegalArgumentException("등록되지 않은 엔드포인트: " + name);
+        }
+        return stats;
+    }
+
+    /**
+     * 📘 워밍업 구간에 기록한 값을 모두 버립니다.
+     */
+    void resetAll() {
+        endpoints.values().forEach(EndpointStats::reset);
+    }
+
+    /**
+     * 📘 측정 구간의 결과를 출력하고 .hgrm 파일로 저장합니다.
+     *
+     * @param seconds 측정 시간 (초)
+     * @param outputDir .hgrm 파일을 저장할 디렉터리
+     */
+    void report(double seconds, Path outputDir, PrintStream out) throws IOException {
+        Files.createDirectories(outputDir);
+
+        out.printf("%-14s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (EndpointStats stats : endpoints.values()) {
+            Histogram histogram = stats.snapshot();
+            long requests = histogram.getTotalCount();
+            totalRequests += requests;
+            totalErrors += stats.getErrors();
+
+            out.printf("%-14s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.getName(), requests, stats.getErrors(), requests / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+
+            // 마이크로초로 기록했으므로 1000으로 나누어 ms 단위로 저장
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(outputDir.resolve(stats.getName() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+
+        out.printf("%-14s %10d %8d %10.1f%n", "total", totalRequests, totalErrors, totalRequests / seconds);
+        out.println("응답 시간 분포(.hgrm) 저장 위치: " + outputDir.toAbsolutePath());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.shop.loadtest;
+
+/**
+ * 📘 **Scenario 인터페이스**
+ *
+ * 가상 사용자 한 명이 반복해서 실행하는 요청 순서(시나리오)입니다.
+ * 클라이언트 스레드마다 인스턴스를 따로 만들므로 구현체는 사용자별 상태(장바구니 등)를 필드로 가질 수 있습니다.
+ */
+interface Scenario {
+
+    /**
+     * 📘 시나리오를 한 번 실행합니다. 부하 테스트 시간 동안 반복 호출됩니다.
+     */
+    void runOnce() throws InterruptedException;
+}
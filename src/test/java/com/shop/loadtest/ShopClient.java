@@ -0,0 +1,177 @@
+package com.shop.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 📘 **ShopClient 클래스**
+ *
+ * 부하 테스트의 가상 사용자 한 명에 해당하는 HTTP 클라이언트입니다.
+ * 쿠키(JSESSIONID)를 따로 보관하므로 클라이언트마다 별도의 로그인 세션을 가집니다.
+ *
+ * 🛠️ **CSRF 처리**
+ * - 로그인/회원가입 폼의 hidden input(`_csrf`)에서 토큰을 읽어 폼과 함께 전송합니다.
+ * - 로그인하면 세션의 CSRF 토큰이 새로 발급되므로, 로그인 직후 `<meta name="_csrf">`가 있는
+ *   상품 상세 페이지에서 토큰을 다시 읽어 이후 요청(JSON은 헤더, multipart는 `_csrf` 파라미터)에 사용합니다.
+ */
+class ShopClient {
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("<input[^>]*name=\"_csrf\"[^>]*value=\"([^\"]+)\"");
+    private static final Pattern CSRF_META = Pattern.compile("<meta name=\"_csrf\" content=\"([^\"]+)\"");
+    private static final Pattern CSRF_HEADER_META = Pattern.compile("<meta name=\"_csrf_header\" content=\"([^\"]+)\"");
+
+    private final String baseUrl;
+
+    private final HttpClient httpClient;
+
+    private String csrfToken;
+
+    private String csrfHeader = "X-CSRF-TOKEN";
+
+    ShopClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER) // 로그인/상품 등록 결과를 리다이렉트 위치로 판단
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * 📘 회원가입 (MemberController.newMember)
+     *
+     * 성공하면 메인 페이지로 리다이렉트됩니다. 현재 회원가입 시 ADMIN 권한이 부여되므로 관리자 계정 생성에 사용합니다.
+     */
+    void signUp(String name, String email, String password) throws IOException, InterruptedException {
+        // 회원가입 폼은 CSRF 토큰(세션)을 응답이 커밋된 뒤에 만들려다 실패하므로, 로그인 폼에서 세션과 토큰을 먼저 받음
+        String token = find(CSRF_INPUT, get("/members/login").body(), "로그인 폼의 CSRF 토큰");
+
+        HttpResponse<String> response = postForm("/members/new", Map.of(
+                "name", name, "email", email, "password", password, "address", "부하 테스트", "_csrf", token));
+        if (!isRedirectTo(response, "/")) {
+            throw new IllegalStateException("회원가입 실패: " + email + " (status " + response.statusCode() + ")");
+        }
+    }
+
+    /**
+     * 📘 폼 로그인 후, 로그인 세션에 발급된 CSRF 토큰을 읽어 둡니다.
+     *
+     * @param itemId CSRF 토큰을 읽을 상품 상세 페이지의 상품 ID
+     */
+    void login(String email, String password, Long itemId) throws IOException, InterruptedException {
+        String token = find(CSRF_INPUT, get("/members/login").body(), "로그인 폼의 CSRF 토큰");
+
+        HttpResponse<String> response = postForm("/members/login", Map.of(
+                "email", email, "password", password, "_csrf", token));
+        if (!isRedirectTo(response, "/")) {
+            throw new IllegalStateException("로그인 실패: " + email + " (status " + response.statusCode() + ")");
+        }
+
+        String page = get("/item/" + itemId).body();
+        csrfToken = find(CSRF_META, page, "상품 상세 페이지의 CSRF 토큰");
+        csrfHeader = find(CSRF_HEADER_META, page, "상품 상세 페이지의 CSRF 헤더 이름");
+    }
+
+    HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uri(path)).GET().build());
+    }
+
+    HttpResponse<String> postJson(String path, String json) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .header(csrfHeader, csrfToken)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    HttpResponse<String> postForm(String path, Map<String, String> fields) throws IOException, InterruptedException {
+        String body = fields.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+
+        return send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    /**
+     * 📘 multipart/form-data 전송 (상품 등록 폼)
+     *
+     * @param fields 일반 폼 필드 (`_csrf`는 자동으로 추가)
+     * @param fileField 파일 필드 이름
+     * @param files 전송할 파일 내용 목록 (모두 image/jpeg로 전송)
+     */
+    HttpResponse<String> postMultipart(String path, Map<String, String> fields, String fileField, List<byte[]> files)
+            throws IOException, InterruptedException {
+        String boundary = "----ShopLoadTest" + UUID.randomUUID().toString().replace("-", "");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            writePart(body, boundary, "Content-Disposition: form-data; name=\"" + field.getKey() + "\"",
+                    field.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+        writePart(body, boundary, "Content-Disposition: form-data; name=\"_csrf\"",
+                csrfToken.getBytes(StandardCharsets.UTF_8));
+
+        for (int i = 0; i < files.size(); i++) {
+            writePart(body, boundary, "Content-Disposition: form-data; name=\"" + fileField + "\"; filename=\"image" + i + ".jpg\"\r\n"
+                    + "Content-Type: image/jpeg", files.get(i));
+        }
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build());
+    }
+
+    /**
+     * 📘 응답이 지정한 경로로의 리다이렉트인지 확인합니다.
+     */
+    boolean isRedirectTo(HttpResponse<?> response, String path) {
+        if (response.statusCode() != 302) {
+            return false;
+        }
+        String location = response.headers().firstValue("Location").orElse("");
+        return location.equals(path) || location.equals(baseUrl + path);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String headers, byte[] content) throws IOException {
+        body.write(("--" + boundary + "\r\n" + headers + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(content);
+        body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String find(Pattern pattern, String html, String what) {
+        Matcher matcher = pattern.matcher(html);
+        if (!matcher.find()) {
+            throw new IllegalStateException(what + "을(를) 찾을 수 없습니다.");
+        }
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,251 @@
+package com.shop.loadtest;
+
+import com.shop.ShopApplication;
+import com.shop.repository.DataGenerator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.cache.CacheManager;
+import javax.imageio.ImageIO;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📘 **ShopLoadTest 클래스**
+ *
+ * 애플리케이션을 내장 H2 위에 실제 웹 서버(임의 포트)로 띄우고, 여러 HTTP 클라이언트가 동시에
+ * 실제 컨트롤러를 호출하는 부하 테스트입니다. 빌드 간 처리량/응답 시간 비교에 사용합니다.
+ *
+ * 🛠️ **진행 순서**
+ * 1️⃣ DataGenerator로 초기 데이터 생성 (상품, 회원, 주문 등)
+ * 2️⃣ 일반 회원 클라이언트는 생성된 회원으로 폼 로그인, 관리자 클라이언트는 회원가입 후 로그인
+ * 3️⃣ 워밍업 후 측정 시간 동안 각 클라이언트가 시나리오(ShopperScenario, AdminItemScenario)를 반복 실행
+ * 4️⃣ 엔드포인트별 처리량과 응답 시간 백분위수, 2차 캐시 영역별 적중/실패 횟수 출력
+ *
+ * 클라이언트 하나가 스레드 하나를 사용합니다. (Java 17 기준이므로 고정 크기 스레드 풀 사용)
+ *
+ * 🛠️ **실행 방법**
+ * - `mvn -Pload-test test`
+ * - `mvn -Pload-test test -Dloadtest.args="clients=64 warmup=10 duration=60 items=50000"`
+ *
+ * 🛠️ **옵션 (key=value)**
+ * - clients: 일반 회원 클라이언트 수 (기본 32)
+ * - adminClients: 관리자 상품 등록 클라이언트 수 (기본 1)
+ * - warmup / duration: 워밍업 / 측정 시간(초) (기본 10 / 30)
+ * - items / members: 생성할 상품 수 / 회원 수 (기본 20000 / 2000)
+ * - checkoutEvery: 장바구니 주문 주기 (시나리오 몇 번마다 한 번 주문할지, 기본 5)
+ * - images: 상품 등록 시 첨부할 이미지 수 (기본 3)
+ * - out: .hgrm 파일 저장 디렉터리 (기본 target/loadtest)
+ */
+public class ShopLoadTest {
+
+    private static final String ADMIN_PASSWORD = "admin1234";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "32"));
+        int adminClients = Integer.parseInt(options.getOrDefault("adminClients", "1"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int items = Integer.parseInt(options.getOrDefault("items", "20000"));
+        int members = Integer.parseInt(options.getOrDefault("members", "2000"));
+        int checkoutEvery = Integer.parseInt(options.getOrDefault("checkoutEvery", "5"));
+        int images = Integer.parseInt(options.getOrDefault("images", "3"));
+        Path outputDir = Paths.get(options.getOrDefault("out", "target/loadtest"));
+
+        if (clients > members) {
+            throw new IllegalArgumentException("clients(" + clients + ")는 members(" + members + ") 이하여야 합니다.");
+        }
+
+        // devtools 재시작 기능은 부하 테스트 JVM에서 필요 없으므로 비활성화
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        System.setProperty("java.awt.headless", "true");
+
+        Path uploadDir = Files.createTempDirectory("shop-loadtest");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ShopApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.properties.hibernate.show_sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql=warn",
+                        "--itemImgLocation=" + uploadDir.resolve("item"),
+                        "--uploadPath=" + uploadDir.toUri(),
+                        "--dataGenerator.enabled=true",
+                        "--dataGenerator.items=" + items,
+                        "--dataGenerator.members=" + members
+                );
+
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            // 부하 테스트 중 재고가 떨어지지 않도록 충분히 설정
+            jdbcTemplate.update("update item set stock_number = ?", Integer.MAX_VALUE / 2);
+            List<Long> itemIds = jdbcTemplate.queryForList("select item_id from item", Long.class);
+            List<String> emails = jdbcTemplate.queryForList(
+                    "select email from member order by member_id limit ?", String.class, clients);
+
+            LoadTestStats stats = new LoadTestStats("main", "itemDetail", "addCart", "cartOrder", "orderHistory", "adminItemSave");
+            List<Scenario> scenarios = new ArrayList<>();
+
+            // 일반 회원: 생성된 회원으로 로그인
+            for (String email : emails) {
+                ShopClient client = new ShopClient(baseUrl);
+                client.login(email, DataGenerator.MEMBER_PASSWORD, itemIds.get(0));
+                scenarios.add(new ShopperScenario(client, stats, itemIds, checkoutEvery));
+            }
+
+            // 관리자: 회원가입(ADMIN 권한) 후 로그인
+            List<byte[]> itemImages = createImages(images);
+            for (int i = 0; i < adminClients; i++) {
+                String email = "loadtest-admin" + i + "@shop.test";
+                ShopClient client = new ShopClient(baseUrl);
+                client.signUp("관리자" + i, email, ADMIN_PASSWORD);
+                client.login(email, ADMIN_PASSWORD, itemIds.get(0));
+                scenarios.add(new AdminItemScenario(client, stats, itemImages));
+            }
+
+            System.out.printf("부하 테스트 시작: %s (일반 회원 %d, 관리자 %d, 워밍업 %d초, 측정 %d초)%n",
+                    baseUrl, clients, adminClients, warmup, duration);
+
+            CacheManager cacheManager = context.getBean(CacheManager.class);
+            double seconds = run(scenarios, stats, warmup, duration, () -> clearCacheStatistics(cacheManager));
+            stats.report(seconds, outputDir, System.out);
+            printCacheStatistics(cacheManager, System.out);
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 📘 클라이언트마다 스레드 하나씩 시나리오를 반복 실행하고, 워밍업 이후 구간만 측정합니다.
+     *
+     * @param onWarmupEnd 워밍업이 끝나고 측정을 시작할 때 실행할 작업
+     * @return 실제 측정 시간 (초)
+     */
+    private static double run(List<Scenario> scenarios, LoadTestStats stats, int warmup, int duration,
+                              Runnable onWarmupEnd) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(scenarios.size());
+
+        for (Scenario scenario : scenarios) {
+            executor.submit(() -> {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        scenario.runOnce();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt(); // 측정 종료
+                }
+                return null;
+            });
+        }
+
+        TimeUnit.SECONDS.sleep(warmup);
+        stats.resetAll();
+        onWarmupEnd.run();
+        long start = System.nanoTime();
+
+        TimeUnit.SECONDS.sleep(duration);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        executor.shutdownNow();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        return seconds;
+    }
+
+    /**
+     * 📘 2차 캐시 통계 MXBean(JCache CacheStatistics) 목록
+     */
+    private static List<ObjectName> cacheStatisticsNames(CacheManager cacheManager) throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName pattern = new ObjectName("javax.cache:type=CacheStatistics,CacheManager=" + cacheManager.getURI() + ",*");
+        return new ArrayList<>(server.queryNames(pattern, null));
+    }
+
+    // 워밍업 구간의 캐시 통계 초기화
+    private static void clearCacheStatistics(CacheManager cacheManager) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (ObjectName name : cacheStatisticsNames(cacheManager)) {
+                server.invoke(name, "clear", null, null);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("2차 캐시 통계 초기화 실패", e);
+        }
+    }
+
+    // 측정 구간의 2차 캐시 영역별 적중/실패/제거 횟수 출력
+    private static void printCacheStatistics(CacheManager cacheManager, PrintStream out) throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        out.printf("%n%-34s %10s %10s %8s %10s%n", "cache region", "hits", "misses", "hit(%)", "evictions");
+        for (ObjectName name : cacheStatisticsNames(cacheManager)) {
+            out.printf("%-34s %10d %10d %8.1f %10d%n", name.getKeyProperty("Cache"),
+                    (Long) server.getAttribute(name, "CacheHits"),
+                    (Long) server.getAttribute(name, "CacheMisses"),
+                    (Float) server.getAttribute(name, "CacheHitPercentage"),
+                    (Long) server.getAttribute(name, "CacheEvictions"));
+        }
+    }
+
+    /**
+     * 📘 상품 등록에 첨부할 JPEG 이미지 생성 (800x600 그라데이션)
+     */
+    private static List<byte[]> createImages(int count) throws IOException {
+        List<byte[]> images = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = image.createGraphics();
+            graphics.setPaint(new GradientPaint(0, 0, new Color(30 * i % 256, 120, 200), 800, 600, Color.WHITE));
+            graphics.fillRect(0, 0, 800, 600);
+            graphics.dispose();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "jpg", out);
+            images.add(out.toByteArray());
+        }
+        return images;
+    }
+
+    // key=value 형식의 인자를 Map으로 변환
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index < 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닌 인자: " + arg);
+            }
+            options.put(arg.substring(0, index), arg.substring(index + 1));
+        }
+        return options;
+    }
+}
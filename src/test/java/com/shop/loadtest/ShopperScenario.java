@@ -0,0 +1,77 @@
+package com.shop.loadtest;
+
+import java.net.http.HttpResponse;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 📘 **ShopperScenario 클래스**
+ *
+ * 로그인한 일반 회원의 쇼핑 흐름입니다.
+ *
+ * 🛠️ **한 번 실행할 때의 요청 순서**
+ * 1️⃣ `GET /?searchQuery=..&page=..` 메인 페이지 (검색어 포함)
+ * 2️⃣ `GET /item/{itemId}` 상품 상세
+ * 3️⃣ `POST /cart` 장바구니 담기 (JSON, CSRF 헤더)
+ * 4️⃣ `checkoutEvery`번에 한 번 `POST /cart/orders` 로 담아 둔 상품 주문
+ * 5️⃣ `GET /orders/{page}` 주문 내역
+ */
+class ShopperScenario implements Scenario {
+
+    // 메인 페이지 검색어 (빈 검색어 포함)
+    private static final String[] SEARCH_QUERIES = {"", "", "셔츠", "청바지", "12", "린넨 자켓"};
+
+    private final ShopClient client;
+
+    private final LoadTestStats stats;
+
+    private final List<Long> itemIds;
+
+    private final int checkoutEvery;
+
+    private final List<Long> cartItemIds = new ArrayList<>(); // 아직 주문하지 않은 장바구니 상품 ID
+
+    private int iteration;
+
+    ShopperScenario(ShopClient client, LoadTestStats stats, List<Long> itemIds, int checkoutEvery) {
+        this.client = client;
+        this.stats = stats;
+        this.itemIds = itemIds;
+        this.checkoutEvery = checkoutEvery;
+    }
+
+    @Override
+    public void runOnce() throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        String searchQuery = URLEncoder.encode(SEARCH_QUERIES[random.nextInt(SEARCH_QUERIES.length)], StandardCharsets.UTF_8);
+        stats.get("main").call(() -> client.get("/?searchQuery=" + searchQuery + "&page=" + random.nextInt(5)), ShopperScenario::isOk);
+
+        Long itemId = itemIds.get(random.nextInt(itemIds.size()));
+        stats.get("itemDetail").call(() -> client.get("/item/" + itemId), ShopperScenario::isOk);
+
+        String cartItemJson = "{\"itemId\":" + itemId + ",\"count\":1}";
+        HttpResponse<String> cartResponse = stats.get("addCart").call(() -> client.postJson("/cart", cartItemJson), ShopperScenario::isOk);
+        if (isOk(cartResponse)) {
+            cartItemIds.add(Long.valueOf(cartResponse.body().trim()));
+        }
+
+        if (++iteration % checkoutEvery == 0 && !cartItemIds.isEmpty()) {
+            String cartOrderJson = cartItemIds.stream()
+                    .map(id -> "{\"cartItemId\":" + id + "}")
+                    .collect(Collectors.joining(",", "{\"cartOrderDtoList\":[", "]}"));
+            stats.get("cartOrder").call(() -> client.postJson("/cart/orders", cartOrderJson), ShopperScenario::isOk);
+            cartItemIds.clear();
+        }
+
+        stats.get("orderHistory").call(() -> client.get("/orders/" + random.nextInt(3)), ShopperScenario::isOk);
+    }
+
+    private static boolean isOk(HttpResponse<String> response) {
+        return response != null && response.statusCode() == 200;
+    }
+}
@@ -0,0 +1,87 @@
+package com.shop.repository;
+
+import com.shop.constant.ItemSellStatus;
+import com.shop.dto.DataGeneratorDto;
+import com.shop.dto.OrderHistDto;
+import com.shop.entity.Item;
+import com.shop.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DataGenerator(대량 테스트 데이터 생성)를 테스트하기 위한 테스트 클래스
+ * - 생성한 데이터가 커밋되므로 다른 테스트와 섞이지 않도록 별도의 H2 데이터베이스를 사용합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "spring.datasource.url=jdbc:h2:mem:generator")
+class DataGeneratorTest {
+
+    @Autowired
+    DataGenerator dataGenerator;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    OrderService orderService;
+
+    @Test
+    @DisplayName("대량 테스트 데이터 생성 테스트")
+    public void generateTest() throws Exception {
+        DataGeneratorDto dto = new DataGeneratorDto();
+        dto.setItems(200);
+        dto.setImagesPerItem(2);
+        dto.setMembers(20);
+        dto.setOrdersPerMember(3);
+        dto.setHeavyMemberRatio(0.1); // 2명은 주문 내역이 긴 회원
+        dto.setHeavyOrdersPerMember(50);
+        dto.setBatchSize(64);
+
+        long rows = dataGenerator.generate(dto);
+
+        // 테이블별 생성 건수 확인
+        assertEquals(200, count("item"));
+        assertEquals(400, count("item_img"));
+        assertEquals(20, count("member"));
+        assertEquals(20, count("cart"));
+        assertTrue(count("orders") >= 100); // 주문 내역이 긴 회원 2명 * 50건 이상
+        assertEquals(rows, count("item") + count("item_img") + count("member") + count("cart")
+                + count("cart_item") + count("orders") + count("order_item"));
+
+        // 대표 이미지 URL이 상품에 함께 저장되었는지 확인
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from item where rep_img_url is null", Long.class));
+
+        // 주문 내역이 긴 회원의 주문 내역이 조회되는지 확인 (첫 번째 회원)
+        String email = jdbcTemplate.queryForObject("select min(email) from member where member_id = "
+                + "(select min(member_id) from member)", String.class);
+        Page<OrderHistDto> orderHistDtoList = orderService.getOrderList(email, PageRequest.of(0, 4));
+        assertEquals(50, orderHistDtoList.getTotalElements());
+
+        // 시퀀스가 이동되어 JPA로 새 상품을 저장해도 ID가 충돌하지 않는지 확인
+        Item item = new Item();
+        item.setItemNm("생성 후 저장한 상품");
+        item.setPrice(1000);
+        item.setStockNumber(10);
+        item.setItemDetail("생성 후 저장한 상품 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        itemRepository.saveAndFlush(item);
+        assertTrue(item.getId() > 200);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
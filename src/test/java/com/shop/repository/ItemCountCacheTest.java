@@ -0,0 +1,67 @@
+package com.shop.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ItemCountCache(상품 목록 개수 캐시)를 테스트하기 위한 테스트 클래스
+ */
+class ItemCountCacheTest {
+
+    @Test
+    @DisplayName("같은 검색 조건의 count 쿼리 재사용 테스트")
+    public void getTest() {
+        ItemCountCache itemCountCache = new ItemCountCache(30);
+        AtomicInteger queryCount = new AtomicInteger();
+
+        assertEquals(10L, itemCountCache.get("main:셔츠", () -> { queryCount.incrementAndGet(); return 10L; }));
+        assertEquals(10L, itemCountCache.get("main:셔츠", () -> { queryCount.incrementAndGet(); return 20L; }));
+
+        // 두 번째 조회는 캐시된 값을 사용하므로 count 쿼리는 한 번만 실행
+        assertEquals(1, queryCount.get());
+    }
+
+    @Test
+    @DisplayName("상품 변경 시 캐시 무효화 테스트")
+    public void invalidateAllTest() {
+        ItemCountCache itemCountCache = new ItemCountCache(30);
+
+        itemCountCache.get("main:", () -> 10L);
+        itemCountCache.invalidateAll();
+
+        // 무효화 이후에는 count 쿼리를 다시 실행
+        assertEquals(11L, itemCountCache.get("main:", () -> 11L));
+
+        // 조회 도중 무효화된 결과는 저장하지 않음
+        itemCountCache.invalidateAll();
+        itemCountCache.get("main:", () -> { itemCountCache.invalidateAll(); return 13L; });
+        assertEquals(14L, itemCountCache.get("main:", () -> 14L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 후 캐시 재무효화 테스트")
+    public void invalidateAfterCommitTest() {
+        ItemCountCache itemCountCache = new ItemCountCache(30);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            itemCountCache.invalidateAll();
+
+            // 커밋 전에 다른 요청이 이전 데이터로 count 쿼리를 실행하여 저장한 경우
+            itemCountCache.get("main:", () -> 10L);
+
+            // 커밋되면 캐시를 다시 비움
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(11L, itemCountCache.get("main:", () -> 11L));
+    }
+}
@@ -0,0 +1,58 @@
+package com.shop.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ItemNmIndex(상품명 역색인)를 테스트하기 위한 테스트 클래스
+ */
+class ItemNmIndexTest {
+
+    @Test
+    @DisplayName("상품명 부분 일치 검색 테스트")
+    public void searchTest() {
+        ItemNmIndex itemNmIndex = new ItemNmIndex();
+        itemNmIndex.rebuild(Map.of(
+                1L, "테스트 상품1",
+                2L, "반팔 셔츠",
+                3L, "긴팔 셔츠",
+                4L, "Blue Shirt"));
+
+        // 부분 문자열이 포함된 상품만 최신순(ID 내림차순)으로 조회되는지 확인
+        assertEquals(List.of(3L, 2L), itemNmIndex.search("셔츠"));
+        assertEquals(List.of(1L), itemNmIndex.search("트 상"));
+        // 대소문자 구분 없이 검색되는지 확인
+        assertEquals(List.of(4L), itemNmIndex.search("shirt"));
+        // bigram은 모두 있지만 연속으로 포함되지 않은 경우는 제외
+        assertTrue(itemNmIndex.search("셔츠반팔").isEmpty());
+        // 한 글자 검색어는 색인으로 처리하지 않음 (like 검색으로 대체)
+        assertNull(itemNmIndex.search("셔"));
+    }
+
+    @Test
+    @DisplayName("상품명 수정 시 색인 갱신 테스트")
+    public void putTest() {
+        ItemNmIndex itemNmIndex = new ItemNmIndex();
+
+        // 초기화 전에는 색인을 사용하지 않음
+        assertNull(itemNmIndex.search("셔츠"));
+
+        itemNmIndex.rebuild(Map.of(1L, "반팔 셔츠"));
+        itemNmIndex.put(1L, "반팔 티셔츠");
+        itemNmIndex.put(2L, "청바지");
+
+        assertEquals(List.of(1L), itemNmIndex.search("티셔"));
+        assertEquals(List.of(2L), itemNmIndex.search("바지"));
+
+        itemNmIndex.put(1L, "니트");
+        assertTrue(itemNmIndex.search("셔츠").isEmpty());
+
+        itemNmIndex.remove(2L);
+        assertTrue(itemNmIndex.search("바지").isEmpty());
+    }
+}
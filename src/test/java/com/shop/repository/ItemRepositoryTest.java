@@ -4,10 +4,16 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.shop.constant.ItemSellStatus;
+import com.shop.dto.AdminItemDto;
+import com.shop.dto.ItemSearchDto;
 import com.shop.entity.Item;
 import com.shop.entity.QItem;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,7 +21,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.util.StringUtils;
 
 import java.time.LocalDateTime;
@@ -100,6 +108,7 @@ class ItemRepositoryTest {
      */
     @Test
     @DisplayName("상품명, 상품 상세 설명 or 테스트")
+    @Transactional // 상품 상세 설명은 지연 로딩 필드이므로 트랜잭션(영속성 컨텍스트) 안에서 확인
     public void findByItemNmOrItemDetailTest(){
         this.createItemList();  // 테스트용 데이터 생성
 
@@ -331,4 +340,87 @@ class ItemRepositoryTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("커서 기반 상품 관리 페이지 조회 테스트")
+    public void getAdminItemSliceTest(){
+        this.createItemList();
+
+        ItemSearchDto itemSearchDto = new ItemSearchDto(); // 검색 조건 없음
+
+        // 첫 페이지: 커서 없이 3개 조회
+        Slice<AdminItemDto> firstSlice = itemRepository.getAdminItemSlice(itemSearchDto, null, 3);
+        assertEquals(3, firstSlice.getNumberOfElements());
+        assertTrue(firstSlice.hasNext());
+
+        // 두 번째 페이지: 첫 페이지 마지막 상품 ID를 커서로 사용
+        Long lastItemId = firstSlice.getContent().get(2).getId();
+        Slice<AdminItemDto> secondSlice = itemRepository.getAdminItemSlice(itemSearchDto, lastItemId, 3);
+
+        // offset 기반 두 번째 페이지와 같은 상품이 같은 순서로 조회되는지 확인
+        Page<AdminItemDto> secondPage = itemRepository.getAdminItemPage(itemSearchDto, PageRequest.of(1, 3));
+        assertEquals(
+                secondPage.getContent().stream().map(AdminItemDto::getId).toList(),
+                secondSlice.getContent().stream().map(AdminItemDto::getId).toList());
+    }
+
+    @Autowired
+    EntityManagerFactory emf; // 실행된 쿼리 수 확인용 (Hibernate Statistics)
+
+    @Autowired
+    ItemCountCache itemCountCache;
+
+    @Test
+    @DisplayName("같은 검색 조건의 count 캐시 키 정규화 테스트")
+    public void countKeyNormalizeTest(){
+        this.createItemList();
+        itemCountCache.invalidateAll();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            // 등록일 범위, 판매 상태는 지정하지 않고(null) 상품명으로 검색
+            ItemSearchDto itemSearchDto = new ItemSearchDto();
+            itemSearchDto.setSearchBy("itemNm");
+            itemSearchDto.setSearchQuery(null);
+            itemRepository.getAdminItemPage(itemSearchDto, PageRequest.of(0, 1));
+
+            // 표현만 다른 같은 검색 조건: 빈 등록일 범위(전체 기간), 공백뿐인 검색어
+            ItemSearchDto sameSearchDto = new ItemSearchDto();
+            sameSearchDto.setSearchDateType("");
+            sameSearchDto.setSearchBy("itemNm");
+            sameSearchDto.setSearchQuery("  ");
+
+            statistics.clear();
+            itemRepository.getAdminItemPage(sameSearchDto, PageRequest.of(0, 1));
+
+            // 같은 캐시 키를 사용하므로 목록 쿼리만 실행되고 count 쿼리는 실행되지 않아야 함
+            assertEquals(1, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+            itemCountCache.invalidateAll();
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("상품 조회 시 상세 설명 지연 로딩 테스트")
+    public void itemDetailLazyLoadingTest(){
+        Item item = new Item();
+        item.setItemNm("테스트 상품");
+        item.setPrice(10000);
+        item.setItemDetail("테스트 상품 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(100);
+        Long itemId = itemRepository.saveAndFlush(item).getId();
+        entityManager.clear(); // 영속성 컨텍스트를 비워 DB에서 다시 조회
+
+        // 주문/장바구니에서 사용하는 findById는 상세 설명(@Lob)을 읽지 않아야 함
+        Item savedItem = itemRepository.findById(itemId).orElseThrow();
+        assertFalse(Hibernate.isPropertyInitialized(savedItem, "itemDetail"));
+
+        // 실제로 사용할 때 조회됨
+        assertEquals("테스트 상품 상세 설명", savedItem.getItemDetail());
+        assertTrue(Hibernate.isPropertyInitialized(savedItem, "itemDetail"));
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.shop.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TtlCache(TTL 캐시)를 테스트하기 위한 테스트 클래스
+ */
+class TtlCacheTest {
+
+    @Test
+    @DisplayName("만료된 항목 재조회 테스트")
+    public void expireTest() {
+        TtlCache<String> ttlCache = new TtlCache<>(0, 10); // 저장 즉시 만료
+        AtomicInteger queryCount = new AtomicInteger();
+
+        ttlCache.get("key", () -> { queryCount.incrementAndGet(); return "첫 조회"; });
+        assertEquals("다시 조회", ttlCache.get("key", () -> { queryCount.incrementAndGet(); return "다시 조회"; }));
+        assertEquals(2, queryCount.get());
+    }
+
+    @Test
+    @DisplayName("최대 보관 개수 초과 시 정리 테스트")
+    public void maxEntriesTest() {
+        TtlCache<String> ttlCache = new TtlCache<>(30, 2);
+
+        ttlCache.get("a", () -> "a");
+        ttlCache.get("b", () -> "b");
+
+        // 가득 찬 상태에서 새 항목을 저장하면 만료되지 않은 항목까지 비우고 새 항목만 보관
+        ttlCache.get("c", () -> "c");
+        assertEquals("c", ttlCache.get("c", () -> "다시 조회"));
+        assertEquals("a 다시 조회", ttlCache.get("a", () -> "a 다시 조회"));
+    }
+}
@@ -2,12 +2,14 @@ package com.shop.service;
 
 import com.shop.constant.ItemSellStatus;
 import com.shop.dto.CartItemDto;
+import com.shop.dto.CartOrderDto;
 import com.shop.entity.CartItem;
 import com.shop.entity.Item;
 import com.shop.entity.Member;
 import com.shop.repository.CartItemRepository;
 import com.shop.repository.ItemRepository;
 import com.shop.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest // 스프링 부트 테스트 환경을 설정합니다.
@@ -35,6 +40,9 @@ class CartServiceTest {
     @Autowired
     CartItemRepository cartItemRepository; // 장바구니 항목 저장소 주입
 
+    @Autowired
+    EntityManager em; // 영속성 컨텍스트 초기화용
+
     /**
      * 📘 테스트용 상품 생성 및 저장 메서드
      * 테스트에 사용할 상품 객체를 생성하고 저장합니다.
@@ -91,4 +99,90 @@ class CartServiceTest {
         assertEquals(item.getId(), cartItem.getItem().getId()); // 상품 ID 비교
         assertEquals(cartItemDto.getCount(), cartItem.getCount()); // 수량 비교
     }
+
+    /**
+     * 📘 장바구니 상품 주문 테스트 메서드
+     * 여러 장바구니 항목을 한 번에 주문하면 재고가 차감되고 장바구니 항목이 삭제되는지 테스트합니다.
+     */
+    @Test
+    @DisplayName("장바구니 상품 주문 테스트")
+    public void orderCartItem() {
+        Member member = saveMember(); // 테스트용 회원 생성 및 저장
+
+        List<Item> items = new ArrayList<>();
+        List<CartOrderDto> cartOrderDtoList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Item item = savaItem(); // 테스트용 상품 생성 및 저장
+            items.add(item);
+
+            CartItemDto cartItemDto = new CartItemDto();
+            cartItemDto.setCount(i + 1); // 상품마다 다른 수량 (1, 2, 3개)
+            cartItemDto.setItemId(item.getId());
+
+            CartOrderDto cartOrderDto = new CartOrderDto();
+            cartOrderDto.setCartItemId(cartService.addCart(cartItemDto, member.getEmail()));
+            cartOrderDtoList.add(cartOrderDto);
+        }
+
+        // 장바구니 항목 3개를 한 번에 주문
+        Long orderId = cartService.orderCartItem(cartOrderDtoList, member.getEmail());
+        assertNotNull(orderId);
+
+        // 장바구니 항목은 delete 쿼리로 한 번에 삭제되므로 영속성 컨텍스트를 비우고 DB에서 다시 조회
+        em.flush();
+        em.clear();
+
+        // 주문한 장바구니 항목이 모두 삭제되었는지 확인
+        for (CartOrderDto cartOrderDto : cartOrderDtoList) {
+            assertFalse(cartItemRepository.findById(cartOrderDto.getCartItemId()).isPresent());
+        }
+
+        // 상품별 주문 수량만큼 재고가 차감되었는지 확인
+        for (int i = 0; i < items.size(); i++) {
+            Item savedItem = itemRepository.findById(items.get(i).getId()).orElseThrow(EntityNotFoundException::new);
+            assertEquals(100 - (i + 1), savedItem.getStockNumber());
+        }
+    }
+
+    /**
+     * 📘 장바구니 항목 소유자 일괄 검증 테스트 메서드
+     * 여러 장바구니 항목이 모두 로그인한 회원의 것인지 한 번에 검증하는 기능을 테스트합니다.
+     */
+    @Test
+    @DisplayName("장바구니 항목 소유자 일괄 검증 테스트")
+    public void validateCartItems() {
+        Member member = saveMember(); // 장바구니 주인
+
+        Member otherMember = new Member(); // 다른 회원
+        otherMember.setEmail("other@test.com");
+        memberRepository.save(otherMember);
+
+        List<Long> cartItemIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            CartItemDto cartItemDto = new CartItemDto();
+            cartItemDto.setCount(1);
+            cartItemDto.setItemId(savaItem().getId());
+            cartItemIds.add(cartService.addCart(cartItemDto, member.getEmail()));
+        }
+
+        CartItemDto otherCartItemDto = new CartItemDto();
+        otherCartItemDto.setCount(1);
+        otherCartItemDto.setItemId(savaItem().getId());
+        Long otherCartItemId = cartService.addCart(otherCartItemDto, otherMember.getEmail());
+
+        // 모두 본인 장바구니 항목이면 true
+        assertTrue(cartService.validateCartItems(cartItemIds, member.getEmail()));
+        assertTrue(cartService.validateCartItem(cartItemIds.get(0), member.getEmail()));
+
+        // 다른 회원의 장바구니 항목이 하나라도 섞이면 false
+        List<Long> mixedIds = new ArrayList<>(cartItemIds);
+        mixedIds.add(otherCartItemId);
+        assertFalse(cartService.validateCartItems(mixedIds, member.getEmail()));
+        assertFalse(cartService.validateCartItem(otherCartItemId, member.getEmail()));
+
+        // 존재하지 않는 장바구니 항목이 섞여도 false
+        List<Long> unknownIds = new ArrayList<>(cartItemIds);
+        unknownIds.add(-1L);
+        assertFalse(cartService.validateCartItems(unknownIds, member.getEmail()));
+    }
 }
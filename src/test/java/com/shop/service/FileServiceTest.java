@@ -0,0 +1,79 @@
+package com.shop.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FileService 파일 저장 테스트 클래스
+ */
+class FileServiceTest {
+
+    private final FileService fileService = new FileService(2); // 하위 디렉터리 2단계
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    @DisplayName("업로드 파일 저장 테스트")
+    public void uploadMultipartFile() throws Exception {
+        byte[] content = {1, 2, 3, 4, 5};
+        MockMultipartFile file = new MockMultipartFile("itemImgFile", "image.JPG", "image/jpg", content);
+
+        // 파일 이름은 내용의 SHA-256 해시 + 소문자 확장자
+        String savedFileName = fileService.createFileName("image.JPG", file.getInputStream());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)) + ".jpg", savedFileName);
+
+        // 업로드 경로가 없으면 만들어서 파일 이름 앞 2글자씩의 하위 디렉터리에 저장해야 함
+        Path itemDir = uploadDir.resolve("item");
+        String filePath = fileService.getFilePath(savedFileName);
+        assertEquals(savedFileName.substring(0, 2) + "/" + savedFileName.substring(2, 4) + "/" + savedFileName, filePath);
+        assertTrue(fileService.uploadFileIfAbsent(itemDir.toString(), savedFileName, file));
+        assertArrayEquals(content, Files.readAllBytes(itemDir.resolve(filePath)));
+
+        // 같은 내용의 파일이 이미 있으면 다시 저장하지 않음 (임시 파일도 남기지 않음)
+        assertFalse(fileService.uploadFileIfAbsent(itemDir.toString(), savedFileName, file));
+        try (var files = Files.walk(itemDir)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @DisplayName("입력 스트림 파일 저장 테스트")
+    public void uploadInputStream() throws Exception {
+        byte[] content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        String savedFileName = fileService.uploadFile(uploadDir.toString(), "image.png",
+                new ByteArrayInputStream(content));
+
+        assertTrue(savedFileName.endsWith(".png"));
+        assertArrayEquals(content, Files.readAllBytes(uploadDir.resolve(fileService.getFilePath(savedFileName))));
+
+        // 같은 내용은 같은 이름으로 저장되어 파일이 하나만 남아야 함
+        assertEquals(savedFileName, fileService.uploadFile(uploadDir.toString(), "other.png",
+                new ByteArrayInputStream(content)));
+        try (var files = Files.walk(uploadDir)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @DisplayName("하위 디렉터리 경로 생성 테스트")
+    public void getFilePath() {
+        assertEquals("ab/cd/abcdef.jpg", fileService.getFilePath("abcdef.jpg"));
+        assertEquals("abcd", fileService.getFilePath("abcd")); // 디렉터리 이름 글자 수보다 길지 않은 이름은 그대로
+        assertEquals("abcdef.jpg", new FileService(0).getFilePath("abcdef.jpg")); // 0단계는 나누지 않음
+    }
+}
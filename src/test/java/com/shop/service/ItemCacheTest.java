@@ -0,0 +1,201 @@
+package com.shop.service;
+
+import com.shop.config.SecondLevelCacheConfig;
+import com.shop.constant.ItemSellStatus;
+import com.shop.dto.ItemFormDto;
+import com.shop.dto.OrderDto;
+import com.shop.entity.Item;
+import com.shop.entity.Member;
+import com.shop.repository.ItemImgRepository;
+import com.shop.repository.ItemRepository;
+import com.shop.repository.MemberRepository;
+import com.shop.repository.OrderRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품/상품 이미지 2차 캐시 동작을 확인하는 테스트 클래스
+ * - 2차 캐시에는 커밋된 데이터만 저장되므로 @Transactional을 붙이지 않고, 테스트 후 데이터를 직접 삭제합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ItemCacheTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemImgRepository itemImgRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory emf; // 실행된 쿼리 수, 캐시 적중 수 확인용 (Hibernate Statistics)
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long itemId;
+
+    private Long otherItemId;
+
+    private Member member;
+
+    @AfterEach
+    public void cleanUp() {
+        if (member != null) {
+            orderRepository.deleteAll(orderRepository.findAll().stream()
+                    .filter(order -> member.getId().equals(order.getMember().getId()))
+                    .toList());
+            memberRepository.deleteById(member.getId());
+        }
+        for (Long id : new Long[]{itemId, otherItemId}) {
+            if (id != null) {
+                itemImgRepository.deleteAll(itemImgRepository.findByItemIdOrderByIdAsc(id));
+                itemRepository.deleteById(id);
+            }
+        }
+        emf.unwrap(SessionFactory.class).getStatistics().setStatisticsEnabled(false);
+    }
+
+    private Long saveItem() throws Exception {
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setItemNm("캐시 테스트 상품");
+        itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+        itemFormDto.setItemDetail("캐시 테스트 상품 상세 설명");
+        itemFormDto.setPrice(10000);
+        itemFormDto.setStockNumber(100);
+
+        List<MultipartFile> multipartFileList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            multipartFileList.add(new MockMultipartFile("itemImgFile", "image" + i + ".jpg", "image/jpg", new byte[]{1, 2, 3, 4}));
+        }
+
+        return itemService.saveItem(itemFormDto, multipartFileList);
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 시 상품과 상품 이미지 한 번에 조회 테스트")
+    public void getItemDtlInSingleQuery() throws Exception {
+        itemId = saveItem();
+
+        SessionFactory sessionFactory = emf.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions(); // 캐시 없이 DB에서 조회되도록 비움
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        ItemFormDto itemFormDto = itemService.getItemDtl(itemId);
+
+        // 상품 이미지와 상품을 fetch join 쿼리 하나로 조회해야 함 (상품 조회, 지연 로딩 쿼리 없음)
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("캐시 테스트 상품", itemFormDto.getItemNm());
+        assertEquals(3, itemFormDto.getItemImgDtoList().size());
+    }
+
+    @Test
+    @DisplayName("상품 상세 재조회 시 2차 캐시 사용 테스트")
+    public void getItemDtlFromCache() throws Exception {
+        itemId = saveItem();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        itemService.getItemDtl(itemId); // 첫 조회: 이미지 목록 쿼리 결과를 캐시에 저장
+
+        statistics.clear();
+        ItemFormDto itemFormDto = itemService.getItemDtl(itemId);
+
+        // 상품 이미지와 함께 fetch join한 상품까지 쿼리 캐시에서 가져오므로 DB 조회가 없어야 함
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.ITEM_REGION).getMissCount());
+        assertEquals("캐시 테스트 상품", itemFormDto.getItemNm());
+        assertEquals(3, itemFormDto.getItemImgDtoList().size());
+    }
+
+    @Test
+    @DisplayName("상품 수정, 재고 변경 후 캐시 일관성 테스트")
+    public void cacheConsistency() throws Exception {
+        itemId = saveItem();
+        itemService.getItemDtl(itemId); // 캐시에 저장
+
+        // 관리자 상품 수정 (이미지는 변경하지 않음)
+        ItemFormDto itemFormDto = itemService.getItemDtl(itemId);
+        itemFormDto.setItemNm("수정된 상품");
+        itemFormDto.setPrice(20000);
+        itemService.updateItem(itemFormDto, new ArrayList<>());
+
+        ItemFormDto updated = itemService.getItemDtl(itemId);
+        assertEquals("수정된 상품", updated.getItemNm());
+        assertEquals(20000, updated.getPrice());
+
+        // 주문 시 사용하는 재고 차감 update 쿼리 실행 후에도 최신 재고가 조회되어야 함
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> itemRepository.removeStock(itemId, 3));
+        assertEquals(97, itemService.getItemDtl(itemId).getStockNumber());
+    }
+
+    @Test
+    @DisplayName("주문 시 다른 상품 캐시 유지 테스트")
+    public void orderKeepsOtherItemCache() throws Exception {
+        itemId = saveItem();
+        otherItemId = saveItem();
+
+        member = new Member();
+        member.setEmail("cache@test.com");
+        member = memberRepository.save(member);
+
+        // 두 상품 모두 상세 조회하여 캐시에 저장
+        itemService.getItemDtl(itemId);
+        itemService.getItemDtl(otherItemId);
+
+        Cache cache = emf.getCache();
+        assertTrue(cache.contains(Item.class, otherItemId));
+
+        OrderDto orderDto = new OrderDto();
+        orderDto.setItemId(itemId);
+        orderDto.setCount(3);
+        orderService.order(orderDto, member.getId());
+
+        // 재고가 바뀐 상품만 캐시에서 제거되고, 다른 상품의 엔티티 캐시는 그대로 남아 있어야 함
+        assertFalse(cache.contains(Item.class, itemId));
+        assertTrue(cache.contains(Item.class, otherItemId));
+
+        // 다른 상품의 상세 조회 쿼리 캐시도 무효화되지 않아야 함 (DB 조회 없음)
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        itemService.getItemDtl(otherItemId);
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        // 주문한 상품은 차감된 재고로 조회되어야 함
+        assertEquals(97, itemService.getItemDtl(itemId).getStockNumber());
+    }
+}
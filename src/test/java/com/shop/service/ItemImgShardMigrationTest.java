@@ -0,0 +1,131 @@
+package com.shop.service;
+
+import com.shop.constant.ItemSellStatus;
+import com.shop.dto.ItemFormDto;
+import com.shop.entity.Item;
+import com.shop.entity.ItemImg;
+import com.shop.repository.ItemImgRepository;
+import com.shop.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 기존 상품 이미지 파일을 하위 디렉터리로 옮기는 일회성 작업(ItemImgShardMigration) 테스트 클래스
+ * - 커밋된 데이터를 JDBC로 옮기므로 @Transactional을 붙이지 않고, 테스트 후 데이터를 직접 삭제합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "uploadPath=file:${itemImgLocation}/../") // 이미지 조회 URL이 itemImgLocation의 파일을 가리키도록 지정
+class ItemImgShardMigrationTest {
+
+    @Autowired
+    private ItemImgShardMigration itemImgShardMigration;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemImgRepository itemImgRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Value("${itemImgLocation}")
+    private String itemImgLocation;
+
+    private Long itemId;
+
+    @AfterEach
+    public void cleanUp() throws Exception {
+        if (itemId != null) {
+            List<ItemImg> itemImgList = itemImgRepository.findByItemIdOrderByIdAsc(itemId);
+            for (ItemImg itemImg : itemImgList) {
+                Files.deleteIfExists(Paths.get(itemImgLocation, itemImg.getImgUrl().substring(ItemImgService.ITEM_IMG_URL.length())));
+            }
+            itemImgRepository.deleteAll(itemImgList);
+            itemRepository.deleteById(itemId);
+        }
+    }
+
+    @Test
+    @DisplayName("기존 상품 이미지 파일 하위 디렉터리 이동 테스트")
+    public void migrate() throws Exception {
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setItemNm("이동 테스트 상품");
+        itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+        itemFormDto.setItemDetail("이동 테스트 상품 상세 설명");
+        itemFormDto.setPrice(10000);
+        itemFormDto.setStockNumber(100);
+        byte[] content = UUID.randomUUID().toString().getBytes(); // 다른 테스트와 겹치지 않는 내용
+        itemId = itemService.saveItem(itemFormDto,
+                List.of(new MockMultipartFile("itemImgFile", "image.jpg", "image/jpg", content)));
+
+        // 하위 디렉터리로 나누기 전의 상태로 되돌림 (파일은 itemImgLocation 바로 아래, URL은 /images/item/파일명)
+        ItemImg itemImg = itemImgRepository.findByItemIdOrderByIdAsc(itemId).get(0);
+        String shardedImgUrl = itemImg.getImgUrl();
+        String flatImgUrl = ItemImgService.ITEM_IMG_URL + itemImg.getImgName();
+        Path shardedFile = Paths.get(itemImgLocation, shardedImgUrl.substring(ItemImgService.ITEM_IMG_URL.length()));
+        Path flatFile = Paths.get(itemImgLocation, itemImg.getImgName());
+        assertNotEquals(shardedImgUrl, flatImgUrl);
+
+        Files.move(shardedFile, flatFile);
+        jdbcTemplate.update("update item_img set img_url = ?, small_img_url = ?, medium_img_url = ? where item_img_id = ?",
+                flatImgUrl, flatImgUrl, flatImgUrl, itemImg.getId());
+        jdbcTemplate.update("update item set rep_img_url = ?, rep_small_img_url = ?, rep_medium_img_url = ? where item_id = ?",
+                flatImgUrl, flatImgUrl, flatImgUrl, itemId);
+
+        assertTrue(itemImgShardMigration.migrate() >= 1);
+
+        // 파일은 하위 디렉터리로 옮겨지고, 상품 이미지와 상품의 대표 이미지 URL도 새 경로로 바뀌어야 함 (2차 캐시도 갱신)
+        assertTrue(Files.exists(shardedFile));
+        assertFalse(Files.exists(flatFile));
+
+        ItemImg migratedItemImg = itemImgRepository.findById(itemImg.getId()).orElseThrow();
+        assertEquals(shardedImgUrl, migratedItemImg.getImgUrl());
+        assertEquals(shardedImgUrl, migratedItemImg.getSmallImgUrl());
+
+        Item item = itemRepository.findById(itemId).orElseThrow();
+        assertEquals(shardedImgUrl, item.getRepImgUrl());
+        assertEquals(shardedImgUrl, item.getRepMediumImgUrl());
+
+        // 다시 실행해도 이미 옮긴 이미지는 그대로
+        itemImgShardMigration.migrate();
+        assertTrue(Files.exists(shardedFile));
+
+        // 이전 URL(캐시된 페이지 등)로 요청해도 옮긴 파일로 응답해야 함
+        mockMvc.perform(get(flatImgUrl))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(content));
+        mockMvc.perform(get(shardedImgUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+    }
+}
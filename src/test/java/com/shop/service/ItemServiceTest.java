@@ -10,15 +10,38 @@ import jakarta.persistence.EntityNotFoundException; // **엔티티 조회 실패
 import org.junit.jupiter.api.DisplayName; // **테스트의 이름을 설정**하는 어노테이션 import
 import org.junit.jupiter.api.Test; // **JUnit 테스트 메서드** 어노테이션 import
 import org.springframework.beans.factory.annotation.Autowired; // **스프링 빈 자동 주입** 어노테이션 import
+import org.springframework.beans.factory.annotation.Value; // **프로퍼티 값 주입** 어노테이션 import
 import org.springframework.boot.test.context.SpringBootTest; // **Spring Boot 테스트 실행**을 위한 어노테이션 import
+import org.springframework.dao.DataAccessResourceFailureException; // **DB 접근 실패 예외** import
 import org.springframework.mock.web.MockMultipartFile; // **가짜 MultipartFile**을 생성하기 위한 클래스 import
 import org.springframework.security.test.context.support.WithMockUser; // **가짜 사용자 인증**을 위한 어노테이션 import
 import org.springframework.test.context.TestPropertySource; // **테스트 환경의 프로퍼티 파일 지정** 어노테이션 import
+import org.springframework.test.util.AopTestUtils; // **프록시 안의 실제 빈** 조회
+import org.springframework.test.util.ReflectionTestUtils; // **private 필드 교체/조회**
+import org.springframework.transaction.CannotCreateTransactionException; // **트랜잭션 시작 실패 예외** import
+import org.springframework.transaction.PlatformTransactionManager; // **트랜잭션 매니저** import
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation; // **트랜잭션 전파 옵션** import
 import org.springframework.transaction.annotation.Transactional; // **트랜잭션 처리** 어노테이션 import
+import org.springframework.transaction.support.TransactionTemplate; // **코드 블록 단위 트랜잭션** import
 import org.springframework.web.multipart.MultipartFile; // **파일 업로드**를 위해 사용하는 객체
 
+import java.io.File; // **업로드 디렉터리 파일 목록 확인** import
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList; // **ArrayList 컬렉션** import
+import java.util.HashSet;
 import java.util.List; // **List 인터페이스** import
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID; // **테스트용 고유 파일 내용 생성** import
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*; // **JUnit의 assertion 메서드** import
 
@@ -48,6 +71,12 @@ class ItemServiceTest {
     @Autowired
     ItemImgRepository itemImgRepository; // **ItemImgRepository 주입**
 
+    @Autowired
+    ItemImgService itemImgService; // **ItemImgService 주입** (스테이징 기록 확인용)
+
+    @Value("${itemImgLocation}")
+    String itemImgLocation; // **상품 이미지 저장 경로**
+
     /**
      * 📘 **테스트용 MultipartFile 생성 메서드**
      *
@@ -144,6 +173,8 @@ class ItemServiceTest {
         assertEquals(itemFormDto.getItemSellStatus(), item.getItemSellStatus());
         // **상품 상세 설명 검증**: ItemFormDto의 상세 설명과 Item 엔티티의 상세 설명이 같은지 확인합니다.
         assertEquals(itemFormDto.getItemDetail(), item.getItemDetail());
+        // **상품 설명 요약 검증**: 짧은 상세 설명은 그대로 요약으로 저장됩니다.
+        assertEquals(itemFormDto.getItemDetail(), item.getItemSummary());
         // **상품 가격 검증**: ItemFormDto의 가격과 Item 엔티티의 가격이 같은지 확인합니다.
         assertEquals(itemFormDto.getPrice(), item.getPrice());
         // **재고 수량 검증**: ItemFormDto의 재고 수량과 Item 엔티티의 재고 수량이 같은지 확인합니다.
@@ -158,6 +189,246 @@ class ItemServiceTest {
         assertEquals(multipartFileList.get(0).getOriginalFilename(), itemImgList.get(0).getOriImgName());
         // **첫 번째 이미지 파일 이름 검증**: multipartFileList의 첫 번째 이미지 이름과 ItemImg 엔티티의 oriImgName이 같은지 확인합니다.
 
+        // **대표 이미지 URL 검증**: 첫 번째(대표) 이미지의 URL이 Item 엔티티의 repImgUrl에도 저장되었는지 확인합니다.
+        assertEquals(itemImgList.get(0).getImgUrl(), item.getRepImgUrl());
+
+        // **썸네일 URL 검증**: 테스트 파일은 이미지가 아니므로 썸네일 없이 원본 URL을 사용해야 합니다.
+        assertEquals(itemImgList.get(0).getImgUrl(), itemImgList.get(0).getSmallImgUrl());
+        assertEquals(itemImgList.get(0).getImgUrl(), item.getRepMediumImgUrl());
+
+
+    }
+
+    @Test
+    @DisplayName("상품 설명 요약 생성 테스트")
+    void createItemSummary() {
+        // 줄바꿈/연속 공백은 공백 하나로 합침
+        assertEquals("첫 줄 둘째 줄", Item.createItemSummary("  첫 줄\n\n둘째   줄 "));
+
+        // 최대 길이까지만 저장
+        String longDetail = "가".repeat(Item.ITEM_SUMMARY_LENGTH + 50);
+        assertEquals("가".repeat(Item.ITEM_SUMMARY_LENGTH), Item.createItemSummary(longDetail));
+
+        // 이모지(서로게이트 쌍) 중간에서 자르지 않음
+        String emojiDetail = "가".repeat(Item.ITEM_SUMMARY_LENGTH - 1) + "😀" + "나";
+        assertEquals("가".repeat(Item.ITEM_SUMMARY_LENGTH - 1), Item.createItemSummary(emojiDetail));
+    }
+
+    @Test
+    @DisplayName("상품 수정 실패 시 스테이징한 이미지 파일 삭제 테스트")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 롤백 시점을 확인하기 위해 테스트 트랜잭션 없이 실행
+    void deleteStagedFilesOnRollback() throws Exception {
+        int fileCount = countItemImgFiles();
+
+        // 없는 상품을 수정하면 이미지 파일은 저장(스테이징)된 뒤 트랜잭션 안에서 예외가 발생
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setId(-1L);
+        List<MultipartFile> multipartFileList = List.of(
+                new MockMultipartFile("itemImgFile", "image.jpg", "image/jpg", new byte[]{1, 2, 3, 4}));
+
+        assertThrows(EntityNotFoundException.class, () -> itemService.updateItem(itemFormDto, multipartFileList));
+
+        // 롤백되었으므로 스테이징한 파일이 남아 있지 않아야 함
+        assertEquals(fileCount, countItemImgFiles());
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 시작하지 못하면 스테이징한 이미지 파일 삭제 테스트")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션 시작 실패를 확인하기 위해 테스트 트랜잭션 없이 실행
+    void deleteStagedFilesOnTransactionFailure() throws Exception {
+        int fileCount = countItemImgFiles();
+
+        saveItemWithoutTransaction();
+
+        // 정리 작업을 등록하기 전에 실패했어도 스테이징한 파일과 스테이징 기록이 남아 있지 않아야 함
+        assertEquals(fileCount, countItemImgFiles());
+        assertTrue(pendingImgNames().isEmpty());
+    }
+
+    @Test
+    @DisplayName("스테이징 파일 정리 중 조회에 실패하면 파일을 남기고 원래 예외 유지 테스트")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void keepStagedFilesOnCleanupFailure() throws Exception {
+        Set<Path> files = listItemImgFiles();
+
+        // 파일 사용 여부 조회(countByImgName)만 실패하는 리포지토리로 교체
+        ItemImgService itemImgServiceTarget = AopTestUtils.getTargetObject(itemImgService);
+        ItemImgRepository failingItemImgRepository = (ItemImgRepository) Proxy.newProxyInstance(
+                ItemImgRepository.class.getClassLoader(), new Class<?>[]{ItemImgRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("countByImgName")) {
+                        throw new DataAccessResourceFailureException("커넥션을 얻지 못함");
+                    }
+                    try {
+                        return method.invoke(itemImgRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        ReflectionTestUtils.setField(itemImgServiceTarget, "itemImgRepository", failingItemImgRepository);
+
+        CannotCreateTransactionException exception;
+        try {
+            exception = saveItemWithoutTransaction();
+        } finally {
+            ReflectionTestUtils.setField(itemImgServiceTarget, "itemImgRepository", itemImgRepository);
+        }
+
+        // 원래 예외(트랜잭션 시작 실패)에 정리 실패가 덧붙고, 스테이징 기록은 지워지며, 사용 여부를 모르는 파일은 남아 있어야 함
+        assertEquals(1, exception.getSuppressed().length);
+        assertInstanceOf(DataAccessResourceFailureException.class, exception.getSuppressed()[0]);
+        assertTrue(pendingImgNames().isEmpty());
+
+        Set<Path> keptFiles = listItemImgFiles();
+        keptFiles.removeAll(files);
+        assertFalse(keptFiles.isEmpty());
+        for (Path keptFile : keptFiles) {
+            Files.delete(keptFile); // 남겨 둔 파일 정리
+        }
+    }
+
+    @Test
+    @DisplayName("이미지 파일 하나가 저장에 실패하면 함께 저장된 파일 삭제 테스트")
+    void deleteStagedFilesOnStagingFailure() throws Exception {
+        int fileCount = countItemImgFiles();
+
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setItemNm("테스트상품");
+        itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+        itemFormDto.setItemDetail("테스트 상품 입니다.");
+        itemFormDto.setPrice(1000);
+        itemFormDto.setStockNumber(100);
+
+        // 확장자가 없는 파일은 저장 파일명을 만들지 못해 실패 (나머지 파일은 동시에 저장됨)
+        List<MultipartFile> multipartFileList = new ArrayList<>(createMultipartFiles());
+        multipartFileList.set(2, new MockMultipartFile("itemImgFile", "image", "image/jpg", new byte[]{1, 2, 3, 4}));
 
+        assertThrows(StringIndexOutOfBoundsException.class, () -> itemService.saveItem(itemFormDto, multipartFileList));
+        assertEquals(fileCount, countItemImgFiles());
     }
+
+    @Test
+    @DisplayName("같은 내용의 이미지 파일 공유 및 사용하지 않는 파일 삭제 테스트")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋 후 파일 삭제를 확인하기 위해 테스트 트랜잭션 없이 실행
+    void shareItemImgFile() throws Exception {
+        byte[] content = UUID.randomUUID().toString().getBytes(); // 다른 테스트와 겹치지 않는 내용
+        byte[] newContent = UUID.randomUUID().toString().getBytes();
+        List<Long> itemIds = new ArrayList<>();
+
+        try {
+            // 1️⃣ 같은 내용의 이미지로 상품 두 개 등록 -> 같은 파일 하나를 함께 사용
+            int fileCount = countItemImgFiles();
+            for (int i = 0; i < 2; i++) {
+                ItemFormDto itemFormDto = new ItemFormDto();
+                itemFormDto.setItemNm("공유 이미지 상품" + i);
+                itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+                itemFormDto.setItemDetail("공유 이미지 상품 입니다.");
+                itemFormDto.setPrice(1000);
+                itemFormDto.setStockNumber(100);
+                itemIds.add(itemService.saveItem(itemFormDto,
+                        List.of(new MockMultipartFile("itemImgFile", "image" + i + ".jpg", "image/jpg", content))));
+            }
+
+            ItemImg itemImg0 = itemImgRepository.findByItemIdOrderByIdAsc(itemIds.get(0)).get(0);
+            ItemImg itemImg1 = itemImgRepository.findByItemIdOrderByIdAsc(itemIds.get(1)).get(0);
+            assertEquals(itemImg0.getImgName(), itemImg1.getImgName());
+            assertEquals(fileCount + 1, countItemImgFiles());
+
+            // 2️⃣ 한 상품의 이미지를 바꾸면, 다른 상품이 아직 사용하므로 기존 파일은 남아 있어야 함
+            updateItemImg(itemIds.get(1), itemImg1.getId(), newContent);
+            assertTrue(itemImgFile(itemImg0).exists());
+
+            // 3️⃣ 나머지 상품의 이미지도 바꾸면 사용하는 곳이 없으므로 삭제되어야 함
+            updateItemImg(itemIds.get(0), itemImg0.getId(), newContent);
+            assertFalse(itemImgFile(itemImg0).exists());
+        } finally {
+            for (Long itemId : itemIds) {
+                List<ItemImg> itemImgList = itemImgRepository.findByItemIdOrderByIdAsc(itemId);
+                itemImgList.forEach(itemImg -> itemImgFile(itemImg).delete());
+                itemImgRepository.deleteAll(itemImgList);
+                itemRepository.deleteById(itemId);
+            }
+        }
+    }
+
+    // 상품의 이미지 하나를 content 내용의 새 파일로 수정
+    private void updateItemImg(Long itemId, Long itemImgId, byte[] content) throws Exception {
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setId(itemId);
+        itemFormDto.setItemNm("공유 이미지 상품");
+        itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+        itemFormDto.setItemDetail("공유 이미지 상품 입니다.");
+        itemFormDto.setPrice(1000);
+        itemFormDto.setStockNumber(100);
+        itemFormDto.setItemImgIds(List.of(itemImgId));
+        itemService.updateItem(itemFormDto,
+                List.of(new MockMultipartFile("itemImgFile", "new.jpg", "image/jpg", content)));
+    }
+
+    // 하위 디렉터리를 포함한 상품 이미지 파일 수
+    // 트랜잭션 시작(getTransaction)에서 실패하는 트랜잭션 매니저로 교체하고 상품 등록 (커넥션 풀이 고갈된 경우)
+    private CannotCreateTransactionException saveItemWithoutTransaction() {
+        PlatformTransactionManager failingTransactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                throw new CannotCreateTransactionException("커넥션을 얻지 못함");
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+        ItemService target = AopTestUtils.getTargetObject(itemService);
+        Object transactionTemplate = ReflectionTestUtils.getField(target, "transactionTemplate");
+        ReflectionTestUtils.setField(target, "transactionTemplate", new TransactionTemplate(failingTransactionManager));
+
+        try {
+            ItemFormDto itemFormDto = new ItemFormDto();
+            itemFormDto.setItemNm("테스트상품");
+            itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+            itemFormDto.setItemDetail("테스트 상품 입니다.");
+            itemFormDto.setPrice(1000);
+            itemFormDto.setStockNumber(100);
+            List<MultipartFile> multipartFileList = List.of(new MockMultipartFile("itemImgFile", "image.jpg", "image/jpg",
+                    UUID.randomUUID().toString().getBytes())); // 다른 테스트와 겹치지 않는 내용
+
+            return assertThrows(CannotCreateTransactionException.class, () -> itemService.saveItem(itemFormDto, multipartFileList));
+        } finally {
+            ReflectionTestUtils.setField(target, "transactionTemplate", transactionTemplate);
+        }
+    }
+
+    // 커밋되지 않은 스테이징 기록 (ItemImgService.pendingImgNames)
+    private Map<?, ?> pendingImgNames() {
+        ItemImgService itemImgServiceTarget = AopTestUtils.getTargetObject(itemImgService);
+        return (Map<?, ?>) ReflectionTestUtils.getField(itemImgServiceTarget, "pendingImgNames");
+    }
+
+    // 업로드 디렉터리의 파일 목록
+    private Set<Path> listItemImgFiles() throws IOException {
+        if (!Files.exists(Paths.get(itemImgLocation))) {
+            return new HashSet<>();
+        }
+        try (Stream<Path> files = Files.walk(Paths.get(itemImgLocation))) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private int countItemImgFiles() throws IOException {
+        if (!Files.exists(Paths.get(itemImgLocation))) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(Paths.get(itemImgLocation))) {
+            return (int) files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    // 상품 이미지 URL에 해당하는 파일
+    private File itemImgFile(ItemImg itemImg) {
+        return new File(itemImgLocation, itemImg.getImgUrl().substring(ItemImgService.ITEM_IMG_URL.length()));
+    }
+
 }
@@ -0,0 +1,72 @@
+package com.shop.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MainItemCache(메인 페이지 상품 목록 캐시)를 테스트하기 위한 테스트 클래스
+ */
+class MainItemCacheTest {
+
+    @Test
+    @DisplayName("같은 검색어, 페이지의 목록 재사용 테스트")
+    public void getTest() {
+        MainItemCache mainItemCache = new MainItemCache(30, 5);
+        AtomicInteger queryCount = new AtomicInteger();
+
+        assertEquals("셔츠 0", mainItemCache.get("셔츠", 0, false, () -> { queryCount.incrementAndGet(); return "셔츠 0"; }));
+        assertEquals("셔츠 0", mainItemCache.get("셔츠", 0, false, () -> { queryCount.incrementAndGet(); return "다른 결과"; }));
+        assertEquals(1, queryCount.get());
+
+        // 검색어, 페이지 번호, 조회 방식(Page/Slice)이 다르면 따로 조회
+        assertEquals("셔츠 1", mainItemCache.get("셔츠", 1, false, () -> "셔츠 1"));
+        assertEquals("바지 0", mainItemCache.get("바지", 0, false, () -> "바지 0"));
+        assertEquals("셔츠 0 slice", mainItemCache.get("셔츠", 0, true, () -> "셔츠 0 slice"));
+
+        // 캐시 대상 페이지 수(5)를 넘는 페이지는 매번 조회
+        mainItemCache.get("셔츠", 5, false, () -> "셔츠 5");
+        assertEquals("셔츠 5 다시 조회", mainItemCache.get("셔츠", 5, false, () -> "셔츠 5 다시 조회"));
+    }
+
+    @Test
+    @DisplayName("상품 변경 시 캐시 무효화 테스트")
+    public void invalidateAllTest() {
+        MainItemCache mainItemCache = new MainItemCache(30, 5);
+
+        mainItemCache.get("", 0, false, () -> "변경 전");
+        mainItemCache.invalidateAll();
+        assertEquals("변경 후", mainItemCache.get("", 0, false, () -> "변경 후"));
+
+        // 조회 도중 무효화된 결과는 저장하지 않음
+        mainItemCache.invalidateAll();
+        mainItemCache.get("", 0, false, () -> { mainItemCache.invalidateAll(); return "오래된 결과"; });
+        assertEquals("새 결과", mainItemCache.get("", 0, false, () -> "새 결과"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 후 캐시 재무효화 테스트")
+    public void invalidateAfterCommitTest() {
+        MainItemCache mainItemCache = new MainItemCache(30, 5);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            mainItemCache.invalidateAll();
+
+            // 커밋 전에 다른 요청이 이전 데이터로 조회하여 저장한 경우
+            mainItemCache.get("", 0, false, () -> "커밋 전 데이터");
+
+            // 커밋되면 캐시를 다시 비움
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("커밋 후 데이터", mainItemCache.get("", 0, false, () -> "커밋 후 데이터"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.shop.service;
+
+import com.shop.constant.Role;
+import com.shop.entity.Member;
+import com.shop.repository.MemberRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MemberIdCache(이메일 -> 회원 ID 캐시)를 테스트하기 위한 테스트 클래스
+ */
+class MemberIdCacheTest {
+
+    private Member createMember(Long id, String email) {
+        Member member = new Member();
+        member.setId(id);
+        member.setEmail(email);
+        member.setRole(Role.USER);
+        return member;
+    }
+
+    @Test
+    @DisplayName("회원 ID 캐시 조회 테스트")
+    public void getMemberIdTest() {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findByEmail("test@test.com")).thenReturn(createMember(1L, "test@test.com"));
+
+        MemberIdCache memberIdCache = new MemberIdCache(memberRepository, 100);
+
+        assertEquals(1L, memberIdCache.getMemberId("test@test.com"));
+        assertEquals(Role.USER, memberIdCache.getRole("test@test.com"));
+
+        // 두 번째 조회부터는 캐시를 사용하므로 DB 조회는 한 번만 실행
+        verify(memberRepository, times(1)).findByEmail("test@test.com");
+
+        // 캐시에서 제거하면 다시 DB에서 조회
+        memberIdCache.evict("test@test.com");
+        memberIdCache.getMemberId("test@test.com");
+        verify(memberRepository, times(2)).findByEmail("test@test.com");
+
+        // 없는 회원은 예외 발생
+        assertThrows(EntityNotFoundException.class, () -> memberIdCache.getMemberId("none@test.com"));
+    }
+
+    @Test
+    @DisplayName("회원 ID 캐시 최대 개수 초과 시 제거 테스트")
+    public void evictEldestTest() {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        MemberIdCache memberIdCache = new MemberIdCache(memberRepository, 2);
+
+        memberIdCache.put(createMember(1L, "a@test.com"));
+        memberIdCache.put(createMember(2L, "b@test.com"));
+        memberIdCache.getMemberId("a@test.com"); // a를 최근에 사용
+        memberIdCache.put(createMember(3L, "c@test.com")); // 가장 오래 사용하지 않은 b가 제거됨
+
+        assertEquals(1L, memberIdCache.getMemberId("a@test.com"));
+        assertEquals(3L, memberIdCache.getMemberId("c@test.com"));
+        verify(memberRepository, never()).findByEmail(anyString());
+
+        when(memberRepository.findByEmail("b@test.com")).thenReturn(createMember(2L, "b@test.com"));
+        assertEquals(2L, memberIdCache.getMemberId("b@test.com"));
+        verify(memberRepository, times(1)).findByEmail("b@test.com");
+    }
+}
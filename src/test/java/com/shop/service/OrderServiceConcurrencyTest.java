@@ -0,0 +1,141 @@
+package com.shop.service;
+
+import com.shop.constant.ItemSellStatus;
+import com.shop.dto.OrderDto;
+import com.shop.entity.Item;
+import com.shop.entity.Member;
+import com.shop.entity.Order;
+import com.shop.exception.OutOfStockException;
+import com.shop.repository.ItemRepository;
+import com.shop.repository.MemberRepository;
+import com.shop.repository.OrderRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 스레드가 같은 상품을 동시에 주문할 때 재고 차감이 정확한지 확인하는 테스트 클래스
+ * - 각 스레드의 주문이 별도 트랜잭션으로 커밋되어야 하므로 @Transactional을 붙이지 않고, 테스트 후 데이터를 직접 삭제합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class OrderServiceConcurrencyTest {
+
+    private static final int STOCK_NUMBER = 100; // 상품 재고
+    private static final int THREAD_COUNT = 8; // 동시에 주문하는 스레드 수
+    private static final int ORDERS_PER_THREAD = 25; // 스레드당 주문 시도 횟수 (총 200번, 재고의 2배)
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Item item;
+
+    private Member member;
+
+    @AfterEach
+    public void cleanUp() {
+        if (member != null) {
+            orderRepository.deleteAll(orderRepository.findAll().stream()
+                    .filter(order -> member.getId().equals(order.getMember().getId()))
+                    .toList());
+            memberRepository.deleteById(member.getId());
+        }
+        if (item != null) {
+            itemRepository.deleteById(item.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("동시 주문 재고 차감 테스트")
+    public void concurrentOrder() throws Exception {
+        item = new Item();
+        item.setItemNm("동시 주문 상품");
+        item.setPrice(10000);
+        item.setItemDetail("동시 주문 상품 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(STOCK_NUMBER);
+        item = itemRepository.save(item);
+
+        member = new Member();
+        member.setEmail("concurrency@test.com");
+        member = memberRepository.save(member);
+
+        AtomicInteger successCount = new AtomicInteger(); // 주문 성공 수
+        AtomicInteger outOfStockCount = new AtomicInteger(); // 재고 부족으로 실패한 수
+        CountDownLatch startLatch = new CountDownLatch(1); // 모든 스레드가 동시에 시작하도록 대기
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < ORDERS_PER_THREAD; j++) {
+                    OrderDto orderDto = new OrderDto();
+                    orderDto.setItemId(item.getId());
+                    orderDto.setCount(1);
+                    try {
+                        orderService.order(orderDto, member.getEmail());
+                        successCount.incrementAndGet();
+                    } catch (OutOfStockException e) {
+                        outOfStockCount.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS); // 스레드에서 예상하지 못한 예외가 발생하면 여기서 실패
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executorService.shutdown();
+
+        int attempts = THREAD_COUNT * ORDERS_PER_THREAD;
+        System.out.println("동시 주문 " + attempts + "건 처리 시간: " + elapsedMillis + "ms ("
+                + (attempts * 1000L / Math.max(elapsedMillis, 1)) + "건/초)");
+
+        // 재고 수만큼만 주문이 성공하고 나머지는 재고 부족으로 실패해야 함 (초과 판매 없음)
+        assertEquals(STOCK_NUMBER, successCount.get());
+        assertEquals(attempts - STOCK_NUMBER, outOfStockCount.get());
+
+        // DB의 재고가 정확히 0이고, 성공한 주문 수만큼 주문이 저장되었는지 확인
+        Item savedItem = itemRepository.findById(item.getId()).orElseThrow(EntityNotFoundException::new);
+        assertEquals(0, savedItem.getStockNumber());
+
+        List<Order> orders = orderRepository.findAll().stream()
+                .filter(order -> member.getId().equals(order.getMember().getId()))
+                .toList();
+        assertEquals(STOCK_NUMBER, orders.size());
+
+        // 주문 하나를 취소하면 재고가 1개 복구되는지 확인
+        orderService.cancelOrder(orders.get(0).getId());
+        savedItem = itemRepository.findById(item.getId()).orElseThrow(EntityNotFoundException::new);
+        assertEquals(1, savedItem.getStockNumber());
+    }
+}
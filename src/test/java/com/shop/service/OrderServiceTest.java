@@ -3,6 +3,7 @@ package com.shop.service;
 import com.shop.constant.ItemSellStatus;
 import com.shop.constant.OrderStatus;
 import com.shop.dto.OrderDto;
+import com.shop.dto.OrderHistDto;
 import com.shop.entity.Item;
 import com.shop.entity.Member;
 import com.shop.entity.Order;
@@ -10,14 +11,21 @@ import com.shop.entity.OrderItem;
 import com.shop.repository.ItemRepository;
 import com.shop.repository.MemberRepository;
 import com.shop.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,6 +47,12 @@ class OrderServiceTest {
     @Autowired
     private MemberRepository memberRepository; // 회원 레포지토리 의존성 주입
 
+    @Autowired
+    private EntityManager em; // 영속성 컨텍스트 초기화용
+
+    @Autowired
+    private EntityManagerFactory emf; // 실행된 쿼리 수 확인용 (Hibernate Statistics)
+
     /**
      * 테스트용 상품 생성 및 저장
      * @return 저장된 Item 엔티티 객체
@@ -125,14 +139,69 @@ class OrderServiceTest {
         Order order = orderRepository.findById(orderId).orElseThrow(EntityNotFoundException::new);
         // 주문이 없을 경우 EntityNotFoundException 예외 발생
 
+        // 주문 후 상품 재고가 90개로 차감되었는지 확인 (update 쿼리 결과를 다시 조회)
+        assertEquals(90, itemRepository.findById(item.getId()).orElseThrow().getStockNumber());
+
         // 주문을 취소
         orderService.cancelOrder(orderId); // 해당 주문 ID에 대해 주문 취소 처리
 
         // 주문 상태가 "CANCEL"로 변경되었는지 확인
         assertEquals(OrderStatus.CANCEL, order.getOrderStatus());
 
-        // 주문 취소 후 상품 재고가 100개로 복구되었는지 확인
-        assertEquals(100, item.getStockNumber());
+        // 재고 복구 쿼리가 영속성 컨텍스트 전체를 초기화하지 않으므로 주문 엔티티는 계속 관리되어야 함
+        assertTrue(em.contains(order));
+
+        // 주문 취소 후 상품 재고가 100개로 복구되었는지 확인 (영속성 컨텍스트를 비우고 DB에서 다시 조회)
+        em.flush();
+        em.clear();
+        assertEquals(100, itemRepository.findById(item.getId()).orElseThrow().getStockNumber());
     }
 
+    @Test
+    @DisplayName("주문 내역 조회 쿼리 수 테스트")
+    public void getOrderListQueryCount() {
+        // 📝 [테스트 설명]
+        // - 주문 4건(주문 상품 각 5개)을 조회할 때 주문/주문 상품 수와 관계없이 쿼리 수가 일정한지 확인합니다.
+        // - 주문 페이지 조회, 전체 주문 수 조회, 주문 상품 + 상품 fetch join 조회로 총 3번의 쿼리만 실행되어야 합니다.
+
+        Member member = savaMember();
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Item item = saveItem();
+            item.updateRepImgUrl("/images/item/test" + i + ".jpg"); // 대표 이미지 URL 설정
+            items.add(item);
+        }
+
+        // 주문 상품이 5개인 주문 4건 저장
+        for (int i = 0; i < 4; i++) {
+            List<OrderItem> orderItemList = new ArrayList<>();
+            for (Item item : items) {
+                orderItemList.add(OrderItem.createOrderItem(item, 1));
+            }
+            orderRepository.save(Order.createOrder(member, orderItemList));
+        }
+
+        // 영속성 컨텍스트를 비워 실제 조회 시 DB에서 다시 읽도록 함
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Page<OrderHistDto> orderHistDtoList = orderService.getOrderList(member.getEmail(), PageRequest.of(0, 4));
+
+        // 조회 결과 검증: 주문 4건, 각 주문의 주문 상품 5개와 대표 이미지 URL
+        assertEquals(4, orderHistDtoList.getContent().size());
+        for (OrderHistDto orderHistDto : orderHistDtoList.getContent()) {
+            assertEquals(5, orderHistDto.getOrderItemDtoList().size());
+            assertTrue(orderHistDto.getOrderItemDtoList().get(0).getImgUrl().startsWith("/images/item/"));
+        }
+
+        // 주문 목록 + 전체 주문 수 + 주문 상품/상품 fetch join = 3번의 쿼리
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        statistics.setStatisticsEnabled(false);
+    }
 }
@@ -0,0 +1,117 @@
+package com.shop.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ThumbnailService 썸네일 생성 테스트 클래스
+ */
+class ThumbnailServiceTest {
+
+    private final ThumbnailService thumbnailService = new ThumbnailService();
+
+    @TempDir
+    Path uploadDir;
+
+    // 테스트용 이미지 파일 생성
+    private void createImage(String fileName, int width, int height, int type, String format) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        ImageIO.write(image, format, uploadDir.resolve(fileName).toFile());
+    }
+
+    @Test
+    @DisplayName("가로 크기별 썸네일 생성 테스트")
+    public void createThumbnails() throws Exception {
+        createImage("image.jpg", 800, 600, BufferedImage.TYPE_INT_RGB, "jpg");
+
+        List<String> thumbnailNames = thumbnailService.createThumbnails(uploadDir.toString(), "image.jpg",
+                ThumbnailService.SMALL_WIDTH, ThumbnailService.MEDIUM_WIDTH);
+
+        assertEquals(Arrays.asList("image.jpg_w200.jpg", "image.jpg_w400.jpg"), thumbnailNames);
+
+        // 비율을 유지하여 축소되어야 함 (800x600 -> 200x150, 400x300)
+        BufferedImage small = ImageIO.read(uploadDir.resolve("image.jpg_w200.jpg").toFile());
+        assertEquals(200, small.getWidth());
+        assertEquals(150, small.getHeight());
+
+        BufferedImage medium = ImageIO.read(uploadDir.resolve("image.jpg_w400.jpg").toFile());
+        assertEquals(400, medium.getWidth());
+        assertEquals(300, medium.getHeight());
+    }
+
+    @Test
+    @DisplayName("확장자만 다른 원본의 썸네일 구분 테스트")
+    public void separateThumbnailsByExtension() throws Exception {
+        // 같은 내용(같은 해시)이지만 확장자가 달라 따로 저장된 원본
+        createImage("image.jpg", 800, 600, BufferedImage.TYPE_INT_RGB, "jpg");
+        Files.copy(uploadDir.resolve("image.jpg"), uploadDir.resolve("image.jpeg"));
+
+        List<String> jpgThumbnails = thumbnailService.createThumbnails(uploadDir.toString(), "image.jpg",
+                ThumbnailService.SMALL_WIDTH);
+        List<String> jpegThumbnails = thumbnailService.createThumbnails(uploadDir.toString(), "image.jpeg",
+                ThumbnailService.SMALL_WIDTH);
+
+        // 원본 이름 전체를 썸네일 이름에 사용하므로 원본마다 썸네일을 따로 만듦 (한쪽 원본 삭제 시 다른 쪽 썸네일이 지워지지 않도록)
+        assertEquals(List.of("image.jpg_w200.jpg"), jpgThumbnails);
+        assertEquals(List.of("image.jpeg_w200.jpg"), jpegThumbnails);
+        assertTrue(Files.exists(uploadDir.resolve("image.jpg_w200.jpg")));
+        assertTrue(Files.exists(uploadDir.resolve("image.jpeg_w200.jpg")));
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 이미지 썸네일 테스트")
+    public void createPngThumbnail() throws Exception {
+        createImage("image.png", 600, 600, BufferedImage.TYPE_INT_ARGB, "png");
+
+        List<String> thumbnailNames = thumbnailService.createThumbnails(uploadDir.toString(), "image.png",
+                ThumbnailService.SMALL_WIDTH);
+
+        // 투명도를 유지하도록 png로 저장
+        assertEquals(List.of("image.png_w200.png"), thumbnailNames);
+        assertTrue(ImageIO.read(uploadDir.resolve("image.png_w200.png").toFile()).getColorModel().hasAlpha());
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 썸네일을 만들지 않는 테스트")
+    public void skipSmallImage() throws Exception {
+        createImage("image.jpg", 300, 200, BufferedImage.TYPE_INT_RGB, "jpg");
+
+        List<String> thumbnailNames = thumbnailService.createThumbnails(uploadDir.toString(), "image.jpg",
+                ThumbnailService.SMALL_WIDTH, ThumbnailService.MEDIUM_WIDTH);
+
+        // 원본보다 큰 썸네일은 만들지 않음 (확대하지 않음)
+        assertEquals(Arrays.asList("image.jpg_w200.jpg", null), thumbnailNames);
+        assertFalse(Files.exists(uploadDir.resolve("image.jpg_w400.jpg")));
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일 썸네일 테스트")
+    public void skipNotImage() throws Exception {
+        Files.write(uploadDir.resolve("image.jpg"), new byte[]{1, 2, 3, 4});
+
+        List<String> thumbnailNames = thumbnailService.createThumbnails(uploadDir.toString(), "image.jpg",
+                ThumbnailService.SMALL_WIDTH, ThumbnailService.MEDIUM_WIDTH);
+
+        // 읽을 수 없는 이미지는 썸네일 없이 원본 사용
+        assertEquals(Arrays.asList(null, null), thumbnailNames);
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}